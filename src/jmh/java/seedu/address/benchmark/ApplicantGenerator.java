@@ -0,0 +1,95 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Generates any number of distinct, valid applicants for the benchmarks.
+ * <p>
+ * The same seed always generates the same applicants, so that results from different runs and releases
+ * are measured on the same data.
+ */
+public class ApplicantGenerator {
+
+    public static final long DEFAULT_SEED = 2103L;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Amy", "Bob", "Carl", "Daniel",
+        "Elle", "Fiona", "George", "Hoon", "Ida", "Jun", "Kumar", "Li", "Mei", "Nur"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Bee", "Choo", "Kurz", "Meier",
+        "Meyer", "Kunz", "Best", "Tan", "Lim", "Ng", "Wong", "Goh", "Chua", "Teo"
+    };
+    private static final String[] JOB_POSITIONS = {
+        "Frontend SWE", "Backend Senior Engineer", "Full stack SWE", "Systems Engineer", "UIUX", "Tech Lead",
+        "Data Scientist", "Product Manager"
+    };
+    private static final String[] STATUSES = {
+        "Resume Screening", "Online Assessment", "Round 1", "Round 2", "Final interview", "Offer Given",
+        "Accepted", "Rejected"
+    };
+    private static final String[] RATINGS = {"-1", "1", "2", "3", "4", "5"};
+    private static final String[] TAGS = {"Recommended", "friendly", "SQLExpert", "exGoogle", "knowsFigma"};
+    private static final LocalDateTime FIRST_ADDED_TIME = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
+    private static final int MINUTES_PER_YEAR = 365 * 24 * 60;
+
+    private final Random random;
+
+    public ApplicantGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public ApplicantGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Returns an applicant whose email and phone are derived from {@code index}, so that applicants with
+     * different indexes are never duplicates. The other fields are drawn from small pools, so that searches
+     * and sorts see realistic repetition.
+     */
+    public Applicant generateApplicant(int index) {
+        return new PersonBuilder()
+                .withName(pick(FIRST_NAMES) + " " + pick(LAST_NAMES))
+                .withPhone(String.valueOf(80000000L + index))
+                .withEmail("applicant" + index + "@example.com")
+                .withAddress("Blk " + (index % 1000) + " Benchmark Street " + (index % 97) + ", #01-01")
+                .withJobPosition(pick(JOB_POSITIONS))
+                .withStatus(pick(STATUSES))
+                .withAddedTime(FIRST_ADDED_TIME.plusMinutes(random.nextInt(MINUTES_PER_YEAR)))
+                .withRating(pick(RATINGS))
+                .withTags(pick(TAGS))
+                .build();
+    }
+
+    /**
+     * Returns {@code count} distinct applicants.
+     */
+    public List<Applicant> generateApplicants(int count) {
+        List<Applicant> applicants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            applicants.add(generateApplicant(i));
+        }
+        return applicants;
+    }
+
+    /**
+     * Returns an {@code AddressBook} with {@code count} distinct applicants.
+     */
+    public AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generateApplicants(count));
+        return addressBook;
+    }
+
+    private String pick(String[] pool) {
+        return pool[random.nextInt(pool.length)];
+    }
+}
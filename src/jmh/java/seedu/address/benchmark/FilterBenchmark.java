@@ -0,0 +1,83 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.applicant.AfterDatePredicate;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.BeforeDatePredicate;
+import seedu.address.model.applicant.IdentifierPredicate;
+import seedu.address.model.applicant.NameContainsKeywordsPredicate;
+import seedu.address.model.applicant.NameMatchesKeywordPredicate;
+import seedu.address.model.applicant.StatusMatchesPredicate;
+
+/**
+ * Benchmarks filtering the applicants shown through {@code ModelManager#updateFilteredPersonList}.
+ * The filtered list is refiltered as soon as its predicate is set, so every invocation filters the whole list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FilterBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private ModelManager model;
+    private List<IdentifierPredicate> anyPredicates;
+    private List<IdentifierPredicate> allPredicates;
+    private NameContainsKeywordsPredicate keywordsPredicate;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(new ApplicantGenerator().generateAddressBook(size), new UserPrefs());
+        anyPredicates = List.of(new NameMatchesKeywordPredicate("Alex Yeoh"), new StatusMatchesPredicate("Round 1"));
+        allPredicates = List.of(new StatusMatchesPredicate("Round 1"),
+                new AfterDatePredicate(LocalDateTime.of(2025, 3, 1, 0, 0)),
+                new BeforeDatePredicate(LocalDateTime.of(2025, 6, 1, 0, 0)));
+        keywordsPredicate = new NameContainsKeywordsPredicate(List.of("alex", "yu"));
+    }
+
+    @Benchmark
+    public List<Applicant> searchMatchingAny() {
+        model.updateFilteredPersonList(anyPredicates, false);
+        return model.getFilteredPersonList();
+    }
+
+    @Benchmark
+    public List<Applicant> searchMatchingAll() {
+        model.updateFilteredPersonList(allPredicates, true);
+        return model.getFilteredPersonList();
+    }
+
+    @Benchmark
+    public List<Applicant> filterByKeywords() {
+        model.updateFilteredPersonList(keywordsPredicate);
+        return model.getFilteredPersonList();
+    }
+
+    @Benchmark
+    public List<Applicant> showAll() {
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        return model.getFilteredPersonList();
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.testutil.PersonUtil;
+
+/**
+ * Benchmarks turning user input into commands. Parsing does not depend on the number of applicants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParserBenchmark {
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    private String addCommand;
+    private String addArguments;
+    private String searchCommand;
+    private String sortCommand;
+
+    @Setup
+    public void setUp() {
+        addCommand = PersonUtil.getAddCommand(new ApplicantGenerator().generateApplicant(0));
+        addArguments = " " + PersonUtil.getPersonDetails(new ApplicantGenerator().generateApplicant(0));
+        searchCommand = SearchCommand.COMMAND_WORD + " " + PREFIX_NAME + "Alex Yeoh " + PREFIX_STATUS + "Round 1";
+        sortCommand = SortCommand.COMMAND_WORD + " " + PREFIX_NAME;
+    }
+
+    @Benchmark
+    public Command parseAdd() throws ParseException {
+        return addressBookParser.parseCommand(addCommand);
+    }
+
+    @Benchmark
+    public Command parseSearch() throws ParseException {
+        return addressBookParser.parseCommand(searchCommand);
+    }
+
+    @Benchmark
+    public Command parseSort() throws ParseException {
+        return addressBookParser.parseCommand(sortCommand);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAdd() {
+        return ArgumentTokenizer.tokenize(addArguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_JOB_POSITION, PREFIX_STATUS, PREFIX_ADDRESS, PREFIX_TAG);
+    }
+}
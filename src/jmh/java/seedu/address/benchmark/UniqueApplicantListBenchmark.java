@@ -0,0 +1,125 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.ApplicantComparators;
+import seedu.address.model.applicant.UniqueApplicantList;
+
+/**
+ * Benchmarks the operations of {@code UniqueApplicantList} that every command goes through.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UniqueApplicantListBenchmark {
+
+    private static final Comparator<Applicant> BY_NAME_ASCENDING =
+            ApplicantComparators.forPrefix(PREFIX_NAME, true).orElseThrow();
+    private static final Comparator<Applicant> BY_ADDED_TIME_DESCENDING =
+            ApplicantComparators.forPrefix(PREFIX_ADDED_TIME, false).orElseThrow();
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<Applicant> applicants;
+    private UniqueApplicantList uniqueApplicantList;
+    private Applicant presentApplicant;
+    private Applicant absentApplicant;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ApplicantGenerator generator = new ApplicantGenerator();
+        applicants = generator.generateApplicants(size);
+        uniqueApplicantList = new UniqueApplicantList();
+        uniqueApplicantList.setPersons(applicants);
+        presentApplicant = applicants.get(size / 2);
+        absentApplicant = generator.generateApplicant(size);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return uniqueApplicantList.contains(presentApplicant);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return uniqueApplicantList.contains(absentApplicant);
+    }
+
+    /**
+     * Adds an applicant and removes it again, so that every invocation sees a list of the same size.
+     */
+    @Benchmark
+    public UniqueApplicantList addThenRemove() {
+        uniqueApplicantList.add(absentApplicant);
+        uniqueApplicantList.remove(absentApplicant);
+        return uniqueApplicantList;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UniqueApplicantList setPersons() {
+        UniqueApplicantList replacement = new UniqueApplicantList();
+        replacement.setPersons(applicants);
+        return replacement;
+    }
+
+    /**
+     * Sorts a copy of the list that is shuffled again before every invocation, so that no invocation sorts a sorted
+     * list. This is the sort that the sorted view of the model performs when a sort command is executed.
+     */
+    @State(Scope.Thread)
+    public static class ShuffledList {
+        private final Random random = new Random(ApplicantGenerator.DEFAULT_SEED);
+        private List<Applicant> shuffled;
+
+        @Setup(Level.Trial)
+        public void setUp(UniqueApplicantListBenchmark benchmark) {
+            shuffled = new ArrayList<>(benchmark.applicants);
+        }
+
+        @Setup(Level.Invocation)
+        public void shuffle() {
+            Collections.shuffle(shuffled, random);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Applicant> sortByName(ShuffledList state) {
+        state.shuffled.sort(BY_NAME_ASCENDING);
+        return state.shuffled;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Applicant> sortByAddedTime(ShuffledList state) {
+        state.shuffled.sort(BY_ADDED_TIME_DESCENDING);
+        return state.shuffled;
+    }
+}
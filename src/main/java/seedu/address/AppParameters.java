@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -16,8 +17,10 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final String NAMED_PARAMETER_MARKER = "--";
 
     private Path configPath;
+    private Path commandFilePath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +30,42 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file of commands to execute as one batch once the address book is loaded, or null if there is none.
+     */
+    public Path getCommandFilePath() {
+        return commandFilePath;
+    }
+
+    public void setCommandFilePath(Path commandFilePath) {
+        this.commandFilePath = commandFilePath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, for when the application is not launched by JavaFX.
+     * Named parameters are given in the same form as to JavaFX, {@code --name=value}, and other arguments are ignored.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_MARKER) && separatorIndex > NAMED_PARAMETER_MARKER.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_MARKER.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +74,13 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String commandFilePathParameter = namedParameters.get("commands");
+        if (commandFilePathParameter != null && !FileUtil.isValidPath(commandFilePathParameter)) {
+            logger.warning("Invalid command file path " + commandFilePathParameter + ". No commands will be run.");
+            commandFilePathParameter = null;
+        }
+        appParameters.setCommandFilePath(commandFilePathParameter != null ? Paths.get(commandFilePathParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +96,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(commandFilePath, otherAppParameters.commandFilePath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, commandFilePath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("commandFilePath", commandFilePath)
                 .toString();
     }
 }
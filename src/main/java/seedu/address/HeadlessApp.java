@@ -0,0 +1,140 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandFileRunner;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookSaver;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a UI, e.g. from a script.
+ * <p>
+ * The commands are read from the command file given with {@code --commands=FILE}, or from standard input if there
+ * is none, and executed as one batch, see {@link Logic#executeBatch(List)}. The result of each command is written to
+ * standard output, and errors to standard error. JavaFX is never started.
+ */
+public class HeadlessApp {
+
+    /** The argument that starts the application without a UI. */
+    public static final String HEADLESS_FLAG = "--headless";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final AppParameters appParameters;
+    private final InputStream in;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessApp} that reads commands from {@code in} if {@code appParameters} has no command file.
+     */
+    public HeadlessApp(AppParameters appParameters, InputStream in, PrintStream out, PrintStream err) {
+        requireNonNull(appParameters);
+        requireNonNull(in);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.appParameters = appParameters;
+        this.in = in;
+        this.out = out;
+        this.err = err;
+    }
+
+    public static void main(String[] args) {
+        System.exit(new HeadlessApp(AppParameters.parse(args), System.in, System.out, System.err).run());
+    }
+
+    /**
+     * Executes the commands and saves the address book if they change it.
+     * If the address book cannot be loaded, no command is executed, so that it is not overwritten.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_FAILURE} otherwise.
+     */
+    public int run() {
+        logger.info("=============================[ Running AddressBook headless ]=========================");
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(
+                userPrefs.getAddressBookFormat(), userPrefs.getAddressBookFilePath());
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        try {
+            addressBookOptional = storage.readAddressBook();
+        } catch (DataLoadingException e) {
+            err.println("Data file at " + storage.getAddressBookFilePath() + " could not be loaded: "
+                    + e.getMessage());
+            return EXIT_FAILURE;
+        }
+        // unlike the UI, a missing data file is not filled with sample applicants
+        Model model = new ModelManager(addressBookOptional.orElseGet(AddressBook::new), userPrefs);
+        Logic logic = new LogicManager(model, AddressBookSaver.createSynchronousSaver(storage), storage);
+        if (addressBookOptional.isPresent()) {
+            logic.markAddressBookSaved();
+        }
+
+        List<CommandResult> results;
+        try {
+            results = logic.executeBatch(readCommands());
+        } catch (IOException e) {
+            err.println("Commands could not be read: " + e.getMessage());
+            return EXIT_FAILURE;
+        } catch (CommandException | ParseException e) {
+            err.println(e.getMessage());
+            return EXIT_FAILURE;
+        }
+        for (CommandResult result : results) {
+            out.println(result.getFeedbackToUser());
+        }
+
+        try {
+            // commands such as migrate change the user prefs
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        return EXIT_SUCCESS;
+    }
+
+    private List<String> readCommands() throws IOException {
+        Path commandFilePath = appParameters.getCommandFilePath();
+        if (commandFilePath != null) {
+            return CommandFileRunner.readCommands(commandFilePath);
+        }
+        return CommandFileRunner.readCommands(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.commons.core;
+
+/**
+ * The file formats that the address book can be stored in.
+ */
+public enum AddressBookFormat {
+    /** A json snapshot, with an append-only journal of the changes since the snapshot. */
+    JSON(".json"),
+    /** A compact binary snapshot. */
+    BINARY(".bin"),
+    /** Fixed-size records and a string heap, which are memory-mapped and read as applicants are shown. */
+    MAPPED(".dat");
+
+    private final String fileExtension;
+
+    AddressBookFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -5,7 +5,6 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
@@ -29,13 +28,87 @@ public class StringUtil {
 
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(!containsWhitespace(preppedWord), "Word parameter should be a single word");
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        // walk the words of the sentence in place instead of splitting it, so that no strings are allocated
+        int length = sentence.length();
+        int wordStart = 0;
+        while (wordStart < length) {
+            while (wordStart < length && isWhitespace(sentence.charAt(wordStart))) {
+                wordStart++;
+            }
+            int wordEnd = wordStart;
+            while (wordEnd < length && !isWhitespace(sentence.charAt(wordEnd))) {
+                wordEnd++;
+            }
+            if (wordEnd - wordStart == preppedWord.length()
+                    && sentence.regionMatches(true, wordStart, preppedWord, 0, preppedWord.length())) {
+                return true;
+            }
+            wordStart = wordEnd;
+        }
+        return false;
+    }
+
+    private static boolean containsWhitespace(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (isWhitespace(s.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \\s} in a regular expression.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is alphanumeric as matched by {@code \\p{Alnum}} in a regular expression,
+     * which only matches ASCII letters and digits.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns true if {@code s} is made up of alphanumeric characters and spaces, and starts with an alphanumeric
+     * character. Equivalent to matching {@code [\\p{Alnum}][\\p{Alnum} ]*}, without compiling a pattern.
+     */
+    public static boolean isAlphanumericWithSpaces(String s) {
+        requireNonNull(s);
+        if (s.isEmpty() || !isAlphanumeric(s.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns a key for {@code value} whose natural order is the case-sensitive lexicographic order
+     * (0, 1, ..., 9, A, a, B, b, ..., Z, z): at the first character that differs, the characters are compared
+     * ignoring case, and then upper case first, while a string comes before the longer strings it starts.
+     * <p>
+     * Each character is preceded by its lower case in the key, so comparing two keys with {@code String#compareTo}
+     * gives that order without folding the case of any character again.
+     */
+    public static String toSortKey(String value) {
+        requireNonNull(value);
+        char[] key = new char[value.length() * 2];
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            key[2 * i] = Character.toLowerCase(c);
+            key[2 * i + 1] = c;
+        }
+        return new String(key);
     }
 
     /**
@@ -0,0 +1,92 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Canonicalizes immutable value objects that are identified by a string, so that equal values share one instance.
+ * <p>
+ * Instances are only referenced weakly, so an instance that is no longer used anywhere else can be garbage
+ * collected, and its entry is removed on a later call. Safe to use from multiple threads without locking: finding an
+ * existing instance only reads a concurrent map, so threads that convert applicants in parallel do not wait on one
+ * another. Two threads that create the instance for the same value at once may both call the factory, but only one
+ * of the instances is kept and returned to both.
+ *
+ * @param <T> the type of the value objects.
+ */
+public class WeakInterner<T> {
+
+    private final ConcurrentMap<String, InstanceReference<T>> instances = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> collectedInstances = new ReferenceQueue<>();
+    private final Function<String, T> factory;
+
+    /**
+     * Creates a {@code WeakInterner} that creates missing instances with {@code factory}.
+     */
+    public WeakInterner(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical instance for {@code value}, creating it if there is none.
+     * Any exception thrown by the factory, such as for an invalid value, is thrown as is.
+     */
+    public T intern(String value) {
+        requireNonNull(value);
+        removeCollectedInstances();
+
+        InstanceReference<T> reference = instances.get(value);
+        T instance = reference == null ? null : reference.get();
+        if (instance != null) {
+            return instance;
+        }
+
+        T created = factory.apply(value);
+        InstanceReference<T> createdReference = new InstanceReference<>(value, created, collectedInstances);
+        while (true) {
+            InstanceReference<T> existing = instances.putIfAbsent(value, createdReference);
+            if (existing == null) {
+                return created;
+            }
+            T existingInstance = existing.get();
+            if (existingInstance != null) {
+                return existingInstance;
+            }
+            // the existing instance was collected before its entry was removed
+            if (instances.replace(value, existing, createdReference)) {
+                return created;
+            }
+        }
+    }
+
+    /**
+     * Removes the entries of the instances that have been garbage collected.
+     */
+    private void removeCollectedInstances() {
+        Reference<? extends T> collected;
+        while ((collected = collectedInstances.poll()) != null) {
+            InstanceReference<?> reference = (InstanceReference<?>) collected;
+            // an entry that has been replaced since belongs to a newer instance
+            instances.remove(reference.value, reference);
+        }
+    }
+
+    /**
+     * A weak reference to an instance, which knows the value of the entry it is in.
+     */
+    private static class InstanceReference<T> extends WeakReference<T> {
+        private final String value;
+
+        InstanceReference(String value, T instance, ReferenceQueue<? super T> queue) {
+            super(instance, queue);
+            this.value = value;
+        }
+    }
+}
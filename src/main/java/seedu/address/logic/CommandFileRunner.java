@@ -0,0 +1,71 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes the commands in a command file as one batch, see {@link Logic#executeBatch(List)}.
+ * <p>
+ * A command file, or any other source of commands, has one command per line, as it would be entered by the user.
+ * Blank lines and lines starting with {@code #} are skipped.
+ */
+public class CommandFileRunner {
+
+    public static final String COMMENT_MARKER = "#";
+
+    private final Logic logic;
+
+    /**
+     * Creates a {@code CommandFileRunner} that executes commands with {@code logic}.
+     */
+    public CommandFileRunner(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Executes the commands in {@code commandFile} as one batch, and returns the result of each command.
+     *
+     * @throws IOException If the file cannot be read, in which case no command is executed.
+     * @throws CommandException If a command fails, in which case none of the commands have been applied.
+     * @throws ParseException If a command cannot be parsed, in which case none of the commands have been applied.
+     */
+    public List<CommandResult> run(Path commandFile) throws IOException, CommandException, ParseException {
+        return logic.executeBatch(readCommands(commandFile));
+    }
+
+    /**
+     * Returns the commands in {@code commandFile}, in order.
+     */
+    public static List<String> readCommands(Path commandFile) throws IOException {
+        requireNonNull(commandFile);
+        try (BufferedReader reader = Files.newBufferedReader(commandFile)) {
+            return readCommands(reader);
+        }
+    }
+
+    /**
+     * Returns the commands read from {@code reader} until it ends, in order.
+     */
+    public static List<String> readCommands(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        List<String> commands = new ArrayList<>();
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            String command = line.trim();
+            if (!command.isEmpty() && !command.startsWith(COMMENT_MARKER)) {
+                commands.add(command);
+            }
+        }
+        return commands;
+    }
+}
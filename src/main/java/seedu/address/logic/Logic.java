@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -26,10 +27,35 @@ public interface Logic {
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
     /**
-     * Save the applicant's data in storage
+     * Executes the commands in order as one unit, and saves the address book once after the last of them.
+     * If any command fails, the address book and user prefs are restored to what they were before the first
+     * command, and nothing is saved. Commands that ask for confirmation fail, as it cannot be given in a batch.
+     * Listeners of the filtered applicant list are only notified once all of the commands have been executed.
+     *
+     * @param commandTexts The commands, each as it would be entered by the user.
+     * @return the result of each command, in order.
+     * @throws CommandException If an error occurs while executing a command, or while saving.
+     * @throws ParseException If an error occurs while parsing a command.
+     */
+    List<CommandResult> executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
+    /**
+     * Save the applicant's data in storage, if it has changed since it was last saved
      */
     void saveAddressBook() throws CommandException;
 
+    /**
+     * Records a change made in place to {@code applicant}, such as a new profile picture,
+     * so that the next {@link #saveAddressBook()} writes it to storage.
+     */
+    void markPersonModified(Applicant applicant);
+
+    /**
+     * Records that the address book is already in storage as it is now, e.g. because it was just read from there,
+     * so that {@link #saveAddressBook()} only writes it once it changes.
+     */
+    void markAddressBookSaved();
+
     /**
      * Returns the AddressBook.
      *
@@ -1,24 +1,37 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.UpdateCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
+import seedu.address.model.PersonListView;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.storage.AddressBookSaver;
 import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
 
 /**
  * The main LogicManager of the app.
@@ -31,20 +44,51 @@ public class LogicManager implements Logic {
 
     public static final String MESSAGE_EXPORT_FAILURE = "Failed to export applicant list.";
 
+    public static final String MESSAGE_BATCH_FAILURE =
+            "Command %1$d (%2$s) failed, so none of the commands have been applied: %3$s";
+
+    public static final String MESSAGE_BATCH_CONFIRMATION =
+            "It asks for confirmation, which cannot be given in a batch. Add --force to it instead.";
+
+    public static final String MESSAGE_BATCH_UI_ONLY = "It needs the app window, which a batch does not have. "
+            + "Add " + ExportCommand.FLAG_NO_DIALOG + " to it to export without asking where to save the file.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AddressBookSaver addressBookSaver;
+    private final UserPrefsStorage userPrefsStorage;
     private final AddressBookParser addressBookParser;
     private Command pendingCommand = null;
 
+    // Modification version of the address book at the last save, -1 if it is not in storage yet
+    private long savedAddressBookVersion = -1;
+    // Format and location that the saver writes the address book in, as last seen in the user prefs
+    private AddressBookFormat addressBookFormat;
+    private Path addressBookFilePath;
+    // whether the user prefs have to be saved once the address book is written to its new format and location
+    private boolean isUserPrefsSaveDue = false;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved on the calling thread.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, AddressBookSaver.createSynchronousSaver(storage), storage);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model},
+     * which saves the address book through {@code addressBookSaver}, and the user prefs to {@code userPrefsStorage}
+     * when the address book moves to another format or location.
+     */
+    public LogicManager(Model model, AddressBookSaver addressBookSaver, UserPrefsStorage userPrefsStorage) {
         this.model = model;
-        this.storage = storage;
+        this.addressBookSaver = addressBookSaver;
+        this.userPrefsStorage = userPrefsStorage;
         addressBookParser = new AddressBookParser();
+        addressBookFormat = model.getAddressBookFormat();
+        addressBookFilePath = model.getAddressBookFilePath();
     }
 
     @Override
@@ -84,21 +128,132 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public List<CommandResult> executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        requireNonNull(commandTexts);
+        logger.info("----------------[BATCH OF " + commandTexts.size() + " COMMANDS]");
+        // a batch cannot answer a confirmation that was asked for before it
+        pendingCommand = null;
+
+        List<CommandResult> commandResults = new ArrayList<>(commandTexts.size());
+        AddressBook addressBookBefore = new AddressBook(model.getAddressBook());
+        UserPrefs userPrefsBefore = new UserPrefs(model.getUserPrefs());
+        PersonListView viewBefore = model.getPersonListView();
+        boolean isCompleted = false;
+        model.suspendFilteredPersonListNotifications();
+        // the restored applicants would otherwise point at profile pictures that have been deleted
+        model.deferProfilePictureDeletions();
+        try {
+            for (int i = 0; i < commandTexts.size(); i++) {
+                commandResults.add(executeInBatch(i + 1, commandTexts.get(i)));
+            }
+            isCompleted = true;
+        } finally {
+            if (!isCompleted) {
+                logger.info("Batch failed, restoring the address book");
+                model.setAddressBook(addressBookBefore);
+                model.setUserPrefs(userPrefsBefore);
+                model.setPersonListView(viewBefore);
+            }
+            model.applyDeferredProfilePictureDeletions(isCompleted);
+            model.resumeFilteredPersonListNotifications();
+        }
+
+        saveAddressBook();
+        return commandResults;
+    }
+
+    /**
+     * Parses and executes the command at {@code commandNumber} of a batch, without saving the address book,
+     * and returns its result.
+     *
+     * @throws CommandException If the command fails, or asks for confirmation.
+     * @throws ParseException If the command cannot be parsed.
+     */
+    private CommandResult executeInBatch(int commandNumber, String commandText)
+            throws CommandException, ParseException {
+        logger.fine("----------------[BATCH COMMAND " + commandNumber + "][" + commandText + "]");
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            if (command.requiresUi()) {
+                throw new CommandException(MESSAGE_BATCH_UI_ONLY);
+            }
+            CommandResult commandResult = command.execute(model);
+            if (commandResult.isConfirmation()) {
+                throw new CommandException(MESSAGE_BATCH_CONFIRMATION);
+            }
+            return commandResult;
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_BATCH_FAILURE, commandNumber, commandText,
+                    pe.getMessage()), pe);
+        } catch (CommandException ce) {
+            throw new CommandException(String.format(MESSAGE_BATCH_FAILURE, commandNumber, commandText,
+                    ce.getMessage()), ce);
+        }
+    }
+
     /**
      * Saves the current address book data to storage.
+     * Does nothing if the address book has not changed since it was last saved.
+     * The data is written by the {@code AddressBookSaver}, which may still be busy when this method returns,
+     * unless the address book has moved to another format or location. The user prefs that point at the new file
+     * are then saved as well, once the file has been written.
      *
-     * @throws CommandException If an error occurs during saving
+     * @throws CommandException If an error occurred during this or an earlier save
      */
     public void saveAddressBook() throws CommandException {
+        switchStorageIfMoved();
+        long version = model.getAddressBookVersion();
+        if (version != savedAddressBookVersion) {
+            addressBookSaver.save(new AddressBookSnapshot(model.getAddressBook()));
+            savedAddressBookVersion = version;
+        }
+
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            if (isUserPrefsSaveDue) {
+                addressBookSaver.flush();
+                userPrefsStorage.saveUserPrefs(model.getUserPrefs());
+                isUserPrefsSaveDue = false;
+            } else {
+                addressBookSaver.checkForFailure();
+            }
         } catch (AccessDeniedException e) {
+            savedAddressBookVersion = -1;
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
+            savedAddressBookVersion = -1;
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
     }
 
+    /**
+     * Points the saver at a new storage if the address book format or file path in the user prefs has changed,
+     * e.g. by a {@code MigrateCommand}. The whole address book is then saved to the new storage, followed by the
+     * user prefs, so that the app does not go back to the old file if it is not shut down properly.
+     */
+    private void switchStorageIfMoved() {
+        if (model.getAddressBookFormat() == addressBookFormat
+                && model.getAddressBookFilePath().equals(addressBookFilePath)) {
+            return;
+        }
+        addressBookFormat = model.getAddressBookFormat();
+        addressBookFilePath = model.getAddressBookFilePath();
+        logger.info("Saving address book in " + addressBookFormat + " format to " + addressBookFilePath);
+        addressBookSaver.setStorage(StorageManager.createAddressBookStorage(addressBookFormat, addressBookFilePath));
+        savedAddressBookVersion = -1;
+        isUserPrefsSaveDue = true;
+    }
+
+    @Override
+    public void markPersonModified(Applicant applicant) {
+        model.markPersonModified(applicant);
+    }
+
+    @Override
+    public void markAddressBookSaved() {
+        savedAddressBookVersion = model.getAddressBookVersion();
+    }
+
     @Override
     public Command parseCommand(String commandText) throws ParseException {
         return addressBookParser.parseCommand(commandText);
@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.Page;
 import seedu.address.model.applicant.Applicant;
 
 /**
@@ -32,6 +33,10 @@ public class Messages {
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_INVALID_CRITERIA_FORMAT =
                 "Invalid criteria for %1$s \n%2$s";
+    public static final String MESSAGE_PAGE_OVERVIEW =
+                "Showing applicants %1$d to %2$d.";
+    public static final String MESSAGE_EMPTY_PAGE =
+                "No applicants are shown after the first %1$d.";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -45,6 +50,16 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns a message describing the applicants shown on {@code page}, given that {@code shownCount} are shown.
+     */
+    public static String formatPage(Page page, int shownCount) {
+        if (shownCount == 0) {
+            return String.format(MESSAGE_EMPTY_PAGE, page.offset);
+        }
+        return String.format(MESSAGE_PAGE_OVERVIEW, page.offset + 1, page.offset + shownCount);
+    }
+
     /**
      * Formats the {@code applicant} for display to the user.
      */
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command needs the app window, e.g. to show a dialog, so that it cannot be executed
+     * in a batch or without a UI.
+     */
+    public boolean requiresUi() {
+        return false;
+    }
+
 }
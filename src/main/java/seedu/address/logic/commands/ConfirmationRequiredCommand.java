@@ -11,6 +11,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 import seedu.address.model.applicant.Applicant;
 import seedu.address.model.applicant.IdentifierPredicate;
 
@@ -95,8 +96,9 @@ public abstract class ConfirmationRequiredCommand extends Command {
         requireNonNull(model);
         assert predicates != null : "Predicates must not be null in predicate-based execution";
 
-        model.updateFilteredPersonList(applicant ->
-                predicates.stream().allMatch(predicate -> predicate.test(applicant)));
+        model.updateFilteredPersonList(predicates, true);
+        // every match is processed, not only those on the page of an earlier search or sort
+        model.setPersonListPage(Page.ALL);
 
         List<Applicant> filteredList = model.getFilteredPersonList();
         if (filteredList.isEmpty()) {
@@ -18,6 +18,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 import seedu.address.model.applicant.Applicant;
 import seedu.address.model.applicant.IdentifierPredicate;
 
@@ -125,8 +126,9 @@ public class DeleteCommand extends ConfirmationRequiredCommand {
     @Override
     protected CommandResult executeWithPredicates(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(applicant ->
-                predicates.stream().allMatch(predicate -> predicate.test(applicant)));
+        model.updateFilteredPersonList(predicates, true);
+        // every match is deleted, not only those on the page of an earlier search or sort
+        model.setPersonListPage(Page.ALL);
         List<Applicant> filteredList = model.getFilteredPersonList();
         if (filteredList.isEmpty()) {
             throw new CommandException(getNoResultMessage());
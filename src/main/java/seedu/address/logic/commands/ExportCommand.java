@@ -3,14 +3,18 @@ package seedu.address.logic.commands;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+
+import com.opencsv.CSVWriter;
 
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.storage.CsvApplicantFormat;
 
 /**
  * Exports the currently displayed applicant list to a CSV file.
@@ -19,8 +23,11 @@ public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
 
+    /** The flag that writes the file to the working directory instead of asking where to save it. */
+    public static final String FLAG_NO_DIALOG = "--no-dialog";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the current applicant list to a CSV file.\n"
-            + "Parameters: [FILE-NAME]\n"
+            + "Parameters: [FILE-NAME] [" + FLAG_NO_DIALOG + "]\n"
             + "Example: " + COMMAND_WORD + " applicants_data.csv";
 
     public static final String MESSAGE_SUCCESS = "Exported applicant list to: %s";
@@ -28,27 +35,36 @@ public class ExportCommand extends Command {
     public static final String MESSAGE_FAILURE = "Failed to export applicant list.";
 
     private final String fileName;
-    private final File overrideFile; // test-only override
+    private final File targetFile; // null if the user is asked where to save the file
     /**
-     * Constructs an {@code ExportCommand} with the given file name.
+     * Constructs an {@code ExportCommand} that asks the user where to save a file with the given file name.
      */
     public ExportCommand(String fileName) {
         this(fileName, null);
     }
 
     /**
-     * Test-only constructor for injecting a specific file path (bypasses FileChooser).
+     * Constructs an {@code ExportCommand} that writes to {@code targetFile} without asking (bypasses FileChooser).
      */
-    ExportCommand(String fileName, File overrideFile) {
+    public ExportCommand(String fileName, File targetFile) {
         this.fileName = fileName;
-        this.overrideFile = overrideFile;
+        this.targetFile = targetFile;
     }
+
+    /**
+     * Returns true if the user is asked where to save the file, which needs the app window.
+     */
+    @Override
+    public boolean requiresUi() {
+        return targetFile == null;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         File file;
 
-        if (overrideFile != null) {
-            file = overrideFile;
+        if (targetFile != null) {
+            file = targetFile;
         } else {
             FileChooser fileChooser = new FileChooser();
             fileChooser.setTitle("Save Exported CSV");
@@ -70,24 +86,18 @@ public class ExportCommand extends Command {
     }
 
     private CommandResult exportToFile(File file, Model model) throws CommandException {
-        try (FileWriter writer = new FileWriter(file)) {
-            writer.write("Name,Email,Phone,Address,Job Position,Status,Tags,Added Time,Rating\n");
+        try (CSVWriter writer = new CSVWriter(new FileWriter(file, StandardCharsets.UTF_8))) {
+            writer.writeNext(CsvApplicantFormat.HEADER.toArray(new String[0]), false);
 
             List<Applicant> applicants = model.getFilteredPersonList();
             for (Applicant a : applicants) {
-                writer.write(String.format("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"\n",
-                        a.getName().fullName,
-                        a.getEmail().value,
-                        a.getPhone().value,
-                        a.getAddress().value,
-                        a.getJobPosition().jobPosition,
-                        a.getStatus().value,
-                        a.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(";")),
-                        a.getAddedTime().toString(),
-                        a.getRating().toString()
-                ));
+                writer.writeNext(CsvApplicantFormat.toRow(a));
             }
 
+            // the writer keeps any error to itself until it is asked
+            if (writer.checkError()) {
+                throw new CommandException(MESSAGE_FAILURE, writer.getException());
+            }
             return new CommandResult(String.format(MESSAGE_SUCCESS, file.getName()));
         } catch (IOException e) {
             throw new CommandException(MESSAGE_FAILURE, e);
@@ -98,12 +108,13 @@ public class ExportCommand extends Command {
      * Checks whether this command is equal to another.
      *
      * @param other The object to compare against.
-     * @return True if both commands export to the same file name.
+     * @return True if both commands export to the same file name, in the same way.
      */
     @Override
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof ExportCommand
-                && fileName.equals(((ExportCommand) other).fileName));
+                && fileName.equals(((ExportCommand) other).fileName)
+                && Objects.equals(targetFile, ((ExportCommand) other).targetFile));
     }
 }
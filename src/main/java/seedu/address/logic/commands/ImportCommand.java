@@ -0,0 +1,216 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.RFC4180Parser;
+import com.opencsv.exceptions.CsvException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.Email;
+import seedu.address.model.applicant.Phone;
+import seedu.address.storage.CsvApplicantFormat;
+
+/**
+ * Adds the applicants in a CSV file, with the same columns as an exported file, to the address book.
+ * <p>
+ * The file is read a chunk of rows at a time, and the rows of each chunk are converted into applicants in
+ * parallel. Rows that are invalid, or that are duplicates of an applicant in the address book or of an earlier row,
+ * are rejected, and the rest are added at once, so the address book is saved once however many applicants the file
+ * has.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the applicants in a CSV file, "
+            + "with the same columns as an exported file.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " applicants_data.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d applicants from %3$s";
+    public static final String MESSAGE_REJECTED_ROW = "Row %1$d: %2$s";
+    public static final String MESSAGE_MORE_REJECTED_ROWS = "... and %1$d more rejected rows";
+    public static final String MESSAGE_DUPLICATE_ROW = "Same email or phone number as row %1$d";
+    public static final String MESSAGE_EMPTY_FILE = "The CSV file %1$s is empty";
+    public static final String MESSAGE_FAILURE = "Failed to read %1$s: %2$s";
+
+    /** The number of rejected rows listed in the result, so that a bad file does not flood the result display. */
+    public static final int MAX_REJECTED_ROWS_SHOWN = 20;
+
+    // row numbers count the header as row 1, as a spreadsheet would show them
+    private static final int FIRST_ROW_NUMBER = 2;
+    // the number of rows read and converted at a time, so that the whole file is never held in memory at once
+    static final int CHUNK_SIZE = 1024;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the applicants in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        RowImporter importer;
+        try (Reader fileReader = Files.newBufferedReader(filePath);
+                CSVReader csvReader = new CSVReaderBuilder(fileReader).withCSVParser(new RFC4180Parser()).build()) {
+            String[] header = csvReader.readNext();
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_EMPTY_FILE, filePath));
+            }
+            importer = new RowImporter(model, CsvApplicantFormat.fromHeader(header));
+            for (List<String[]> rows = readChunk(csvReader); !rows.isEmpty(); rows = readChunk(csvReader)) {
+                importer.importRows(rows);
+            }
+        } catch (IllegalValueException e) {
+            throw new CommandException(e.getMessage(), e);
+        } catch (IOException | CsvException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, filePath, e.getMessage()), e);
+        }
+
+        List<Applicant> accepted = importer.accepted;
+        if (!accepted.isEmpty()) {
+            model.addPersons(accepted);
+        }
+        return new CommandResult(formatResult(importer));
+    }
+
+    /**
+     * Returns the next {@link #CHUNK_SIZE} rows of {@code csvReader}, or fewer if the file ends first.
+     */
+    private static List<String[]> readChunk(CSVReader csvReader) throws IOException, CsvException {
+        List<String[]> rows = new ArrayList<>(CHUNK_SIZE);
+        String[] row;
+        while (rows.size() < CHUNK_SIZE && (row = csvReader.readNext()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private String formatResult(RowImporter importer) {
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, importer.accepted.size(),
+                importer.rowCount, filePath.getFileName()));
+        for (String rejection : importer.shownRejections) {
+            result.append('\n').append(rejection);
+        }
+        if (importer.rejectedCount > MAX_REJECTED_ROWS_SHOWN) {
+            result.append('\n').append(String.format(MESSAGE_MORE_REJECTED_ROWS,
+                    importer.rejectedCount - MAX_REJECTED_ROWS_SHOWN));
+        }
+        return result.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * Converts the rows of a file into applicants a chunk at a time, and keeps the applicants that can be added.
+     */
+    private static class RowImporter {
+        private final Model model;
+        private final CsvApplicantFormat format;
+        private final LocalDateTime importTime = LocalDateTime.now();
+        private final Map<Email, Integer> rowByEmail = new HashMap<>();
+        private final Map<Phone, Integer> rowByPhone = new HashMap<>();
+        private final List<Applicant> accepted = new ArrayList<>();
+        // only the rejections that are shown are kept, so that a bad file does not fill the memory either
+        private final List<String> shownRejections = new ArrayList<>();
+        private int rowCount = 0;
+        private int rejectedCount = 0;
+
+        RowImporter(Model model, CsvApplicantFormat format) {
+            this.model = model;
+            this.format = format;
+        }
+
+        /**
+         * Converts {@code rows}, the rows that follow the rows imported so far, and keeps the applicants that are
+         * neither rejected nor duplicates of an applicant in the model or of an applicant of an earlier row.
+         */
+        void importRows(List<String[]> rows) {
+            // each row is converted on its own, into its own slot of the arrays
+            Applicant[] applicants = new Applicant[rows.size()];
+            String[] rejections = new String[rows.size()];
+            IntStream.range(0, rows.size()).parallel().forEach(i -> {
+                try {
+                    applicants[i] = format.toModelType(rows.get(i), importTime);
+                } catch (IllegalValueException e) {
+                    rejections[i] = e.getMessage();
+                }
+            });
+
+            for (int i = 0; i < applicants.length; i++) {
+                int rowNumber = rowCount + i + FIRST_ROW_NUMBER;
+                Applicant applicant = applicants[i];
+                if (applicant == null) {
+                    reject(rowNumber, rejections[i]);
+                    continue;
+                }
+                if (model.hasPerson(applicant)) {
+                    reject(rowNumber, AddCommand.MESSAGE_DUPLICATE_PERSON);
+                    continue;
+                }
+                Integer earlierRow = rowByEmail.get(applicant.getEmail());
+                if (earlierRow == null) {
+                    earlierRow = rowByPhone.get(applicant.getPhone());
+                }
+                if (earlierRow != null) {
+                    reject(rowNumber, String.format(MESSAGE_DUPLICATE_ROW, earlierRow));
+                    continue;
+                }
+                rowByEmail.put(applicant.getEmail(), rowNumber);
+                rowByPhone.put(applicant.getPhone(), rowNumber);
+                accepted.add(applicant);
+            }
+            rowCount += rows.size();
+        }
+
+        private void reject(int rowNumber, String reason) {
+            if (rejectedCount < MAX_REJECTED_ROWS_SHOWN) {
+                shownRejections.add(String.format(MESSAGE_REJECTED_ROW, rowNumber, reason));
+            }
+            rejectedCount++;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 
 /**
  * Lists all persons in the address book to the user.
@@ -24,6 +25,7 @@ public class ListCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.setPersonListPage(Page.ALL);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Moves the address book data file to another file format.
+ * The data file of the new format sits next to the current one, which is kept as it is.
+ */
+public class MigrateCommand extends Command {
+
+    public static final String COMMAND_WORD = "migrate";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Stores the applicant data in another file format from now on.\n"
+            + "Parameters: FORMAT (json, binary or mapped)\n"
+            + "Example: " + COMMAND_WORD + " binary";
+
+    public static final String MESSAGE_SUCCESS = "Applicant data will be stored in %1$s format at %2$s";
+    public static final String MESSAGE_ALREADY_IN_FORMAT = "Applicant data is already stored in %1$s format";
+
+    private final AddressBookFormat targetFormat;
+
+    /**
+     * Creates a MigrateCommand to store the address book in {@code targetFormat}.
+     */
+    public MigrateCommand(AddressBookFormat targetFormat) {
+        requireNonNull(targetFormat);
+        this.targetFormat = targetFormat;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        String formatName = targetFormat.name().toLowerCase(Locale.ROOT);
+        if (model.getAddressBookFormat() == targetFormat) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_IN_FORMAT, formatName));
+        }
+
+        Path targetFilePath = getTargetFilePath(model.getAddressBookFilePath());
+        model.setAddressBookFormat(targetFormat);
+        model.setAddressBookFilePath(targetFilePath);
+        // the whole address book has to be written to the new file, whether or not it changes,
+        // and the user prefs are saved to point at it once it has been written
+        model.markAddressBookModified();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, formatName, targetFilePath));
+    }
+
+    /**
+     * Returns the path of the data file in the target format that sits next to {@code currentFilePath}.
+     */
+    private Path getTargetFilePath(Path currentFilePath) {
+        String fileName = currentFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return currentFilePath.resolveSibling(baseName + targetFormat.getFileExtension());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MigrateCommand)) {
+            return false;
+        }
+
+        MigrateCommand otherMigrateCommand = (MigrateCommand) other;
+        return targetFormat == otherMigrateCommand.targetFormat;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetFormat", targetFormat)
+                .toString();
+    }
+}
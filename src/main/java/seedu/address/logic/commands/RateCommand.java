@@ -9,6 +9,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 import seedu.address.model.applicant.Applicant;
 import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.Rating;
@@ -74,6 +75,8 @@ public class RateCommand extends Command {
      */
     public CommandResult rateByPredicate(Model model) {
         model.updateFilteredPersonList(predicate);
+        // a page of an earlier search or sort would hide the other matches
+        model.setPersonListPage(Page.ALL);
         int numberOfMatches = model.getFilteredPersonListSize();
 
         if (numberOfMatches == 0) {
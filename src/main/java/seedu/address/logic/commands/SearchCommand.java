@@ -6,7 +6,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_AFTER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BEFORE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
@@ -16,6 +18,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 import seedu.address.model.applicant.IdentifierPredicate;
 
 /**
@@ -41,9 +44,12 @@ public class SearchCommand extends Command {
             + "[" + PREFIX_JOB_POSITION + "JOB_POSITION] "
             + "[" + PREFIX_STATUS + "STATUS] "
             + "[" + PREFIX_BEFORE + "YYYY-MM-DD] "
-            + "[" + PREFIX_AFTER + "YYYY-MM-DD]\n"
+            + "[" + PREFIX_AFTER + "YYYY-MM-DD] "
+            + "[" + PREFIX_LIMIT + "LIMIT] "
+            + "[" + PREFIX_OFFSET + "OFFSET]\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "John "
-            + PREFIX_EMAIL + "alice@example.com";
+            + PREFIX_EMAIL + "alice@example.com\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_JOB_POSITION + "Backend SWE " + PREFIX_LIMIT + "50";
 
     /**
      * The list of predicates used to filter the applicant list.
@@ -52,13 +58,31 @@ public class SearchCommand extends Command {
     private final List<IdentifierPredicate> predicates;
 
     /**
-     * Constructs a {@code SearchCommand} with the specified list of predicates.
+     * The page of the matching applicants that is shown.
+     */
+    private final Page page;
+
+    /**
+     * Constructs a {@code SearchCommand} with the specified list of predicates that shows every matching applicant.
      *
      * @param predicates A list of predicates to filter the applicants.
      */
     public SearchCommand(List<IdentifierPredicate> predicates) {
+        this(predicates, Page.ALL);
+    }
+
+    /**
+     * Constructs a {@code SearchCommand} with the specified list of predicates that shows a page of the matching
+     * applicants.
+     *
+     * @param predicates A list of predicates to filter the applicants.
+     * @param page The page of the matching applicants to show, in the order the list was last sorted in.
+     */
+    public SearchCommand(List<IdentifierPredicate> predicates, Page page) {
         requireNonNull(predicates);
+        requireNonNull(page);
         this.predicates = predicates;
+        this.page = page;
     }
 
     /**
@@ -73,22 +97,26 @@ public class SearchCommand extends Command {
         requireNonNull(model);
 
         // Combine all predicates using logical OR (at least one condition needs to be met)
-        model.updateFilteredPersonList(person -> predicates.stream()
-                .anyMatch(p -> p.test(person)));
+        model.updateFilteredPersonList(predicates, false);
+        model.setPersonListPage(page);
 
-        int count = model.getFilteredPersonList().size();
-        if (count == 0) {
+        int matchedCount = model.getMatchedPersonCount();
+        if (matchedCount == 0) {
             throw new CommandException(MESSAGE_NO_RESULT);
         }
 
-        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, count));
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matchedCount);
+        if (!page.isAll()) {
+            message += "\n" + Messages.formatPage(page, model.getFilteredPersonListSize());
+        }
+        return new CommandResult(message);
     }
 
     /**
      * Checks if this {@code SearchCommand} is equal to another object.
      *
      * @param other The object to compare.
-     * @return True if the other object is a {@code SearchCommand} with the same predicates.
+     * @return True if the other object is a {@code SearchCommand} with the same predicates and page.
      */
     @Override
     public boolean equals(Object other) {
@@ -100,6 +128,10 @@ public class SearchCommand extends Command {
             return false;
         }
 
+        if (!page.equals(otherSearchCommand.page)) {
+            return false;
+        }
+
         List<IdentifierPredicate> otherPredicates = otherSearchCommand.predicates;
         if (predicates.size() != otherPredicates.size()) {
             return false;
@@ -116,26 +148,27 @@ public class SearchCommand extends Command {
 
     /**
      * Returns the hash code value for this {@code SearchCommand}.
-     * The hash code is computed based on the list of predicates,
-     * ensuring that two {@code SearchCommand} objects with the same predicates
+     * The hash code is computed based on the list of predicates and the page,
+     * ensuring that two {@code SearchCommand} objects with the same predicates and page
      * will return the same hash code.
      *
      * @return the hash code value for this command.
      */
     @Override
     public int hashCode() {
-        return predicates.hashCode();
+        return 31 * predicates.hashCode() + page.hashCode();
     }
 
     /**
      * Returns a string representation of this {@code SearchCommand}.
      *
-     * @return A string representation containing the predicates used in the search.
+     * @return A string representation containing the predicates used in the search and the page shown.
      */
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicates)
+                .add("page", page)
                 .toString();
     }
 }
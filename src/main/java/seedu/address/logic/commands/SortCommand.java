@@ -7,14 +7,24 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ASCENDING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCENDING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
+import seedu.address.model.applicant.SortCriterion;
 
 /**
  * Sort the applicant list in the address book.
@@ -23,7 +33,8 @@ public class SortCommand extends Command {
     public static final String COMMAND_WORD = "sort";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Sort the applicants based on one specified criterion and an optional sorting order.\n"
+            + ": Sort the applicants based on one or more specified criteria, each with an optional sorting order.\n"
+            + "Applicants that are equal under a criterion are sorted by the next one.\n"
             + "Criteria: "
             + "[" + PREFIX_NAME + "]: Sort by name. "
             + "[" + PREFIX_EMAIL + "]: Sort by email address. "
@@ -33,56 +44,88 @@ public class SortCommand extends Command {
             + "[" + PREFIX_RATING + "]: Sort by rating. \n"
             + "Order (ascending order by default): "
             + "[" + PREFIX_ASCENDING + "] OR [" + PREFIX_DESCENDING + "]: Sort in ascending OR descending order.\n"
+            + "Page (every applicant by default), after the criteria: "
+            + "[" + PREFIX_LIMIT + "LIMIT]: Show at most LIMIT applicants. "
+            + "[" + PREFIX_OFFSET + "OFFSET]: Skip the first OFFSET applicants.\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_EMAIL + " " + PREFIX_ASCENDING + "\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_ADDED_TIME + " " + PREFIX_DESCENDING;
-
-    public static final String MESSAGE_SUCCESS = "Applicant list has been sorted successfully based on %1$s in %2$s";
-    private final Prefix prefix;
-    private final String criteria;
-    private final boolean isAscendingOrder;
-    private final String order;
-
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ADDED_TIME + " " + PREFIX_DESCENDING + "\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_STATUS + " " + PREFIX_RATING + " " + PREFIX_DESCENDING + " "
+            + PREFIX_ADDED_TIME + "\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_RATING + " " + PREFIX_DESCENDING + " " + PREFIX_LIMIT + "50";
 
+    public static final String MESSAGE_SUCCESS = "Applicant list has been sorted successfully based on %1$s";
+    private final List<SortCriterion> criteria;
+    private final Page page;
+    private final String description;
 
     /**
-     * Creates an SortCommand to add the specified {@code Prefix}
+     * Creates an SortCommand to sort by the specified {@code Prefix}
      */
     public SortCommand(Prefix prefix, boolean isAscendingOrder) throws CommandException {
-        requireNonNull(prefix);
+        this(List.of(new SortCriterion(prefix, isAscendingOrder)), Page.ALL);
+    }
 
-        this.isAscendingOrder = isAscendingOrder;
-        if (isAscendingOrder) {
-            this.order = "ascending order";
-        } else {
-            this.order = "descending order";
+    /**
+     * Creates an SortCommand to sort by the first of {@code criteria}, breaking ties with the next one and so on,
+     * and to show the applicants on {@code page} only.
+     *
+     * @throws CommandException if there are no criteria, one of them cannot be sorted by,
+     *     or two of them sort by the same field.
+     */
+    public SortCommand(List<SortCriterion> criteria, Page page) throws CommandException {
+        requireNonNull(criteria);
+        requireNonNull(page);
+        if (criteria.isEmpty()) {
+            throw new CommandException(String.format(
+                    MESSAGE_INVALID_CRITERIA_FORMAT, "sorting", SortCommand.MESSAGE_USAGE));
         }
 
-        this.prefix = prefix;
+        Set<Prefix> prefixes = new HashSet<>();
+        StringJoiner description = new StringJoiner(", then ");
+        for (SortCriterion criterion : criteria) {
+            if (!prefixes.add(criterion.prefix)) {
+                throw new CommandException(String.format(
+                        MESSAGE_INVALID_CRITERIA_FORMAT, "sorting", SortCommand.MESSAGE_USAGE));
+            }
+            description.add(describe(criterion.prefix) + " in "
+                    + (criterion.isAscendingOrder ? "ascending order" : "descending order"));
+        }
+        this.criteria = List.copyOf(criteria);
+        this.page = page;
+        this.description = description.toString();
+    }
+
+    /**
+     * Returns the name of the field that {@code prefix} sorts by.
+     *
+     * @throws CommandException if applicants cannot be sorted by {@code prefix}.
+     */
+    private static String describe(Prefix prefix) throws CommandException {
         if (prefix.equals(PREFIX_NAME)) {
-            this.criteria = "name";
+            return "name";
         } else if (prefix.equals(PREFIX_EMAIL)) {
-            this.criteria = "email address";
+            return "email address";
         } else if (prefix.equals(PREFIX_ADDED_TIME)) {
-            this.criteria = "added time";
+            return "added time";
         } else if (prefix.equals(PREFIX_JOB_POSITION)) {
-            this.criteria = "job position";
+            return "job position";
         } else if (prefix.equals(PREFIX_STATUS)) {
-            this.criteria = "application status";
+            return "application status";
         } else if (prefix.equals(PREFIX_RATING)) {
-            this.criteria = "rating";
+            return "rating";
         } else {
             throw new CommandException(String.format(
                     MESSAGE_INVALID_CRITERIA_FORMAT, "sorting", SortCommand.MESSAGE_USAGE));
         }
-
     }
 
     /**
-     * Returns a string describing the chosen sorting criteria.
+     * Returns a string describing the chosen sorting criteria and their orders,
+     * e.g. "name in ascending order, then rating in descending order".
      */
-    public String getCriteria() {
-        return criteria;
+    public String getDescription() {
+        return description;
     }
 
     /**
@@ -95,13 +138,18 @@ public class SortCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        model.sortPersons(this.prefix, isAscendingOrder);
+        model.sortPersons(criteria);
+        model.setPersonListPage(page);
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, this.criteria, this.order));
+        String message = String.format(MESSAGE_SUCCESS, description);
+        if (!page.isAll()) {
+            message += "\n" + Messages.formatPage(page, model.getFilteredPersonListSize());
+        }
+        return new CommandResult(message);
     }
 
     /**
-     * Returns true if both SortCommands sort by the same prefix.
+     * Returns true if both SortCommands sort by the same criteria in the same order, and show the same page.
      */
     @Override
     public boolean equals(Object other) {
@@ -115,7 +163,7 @@ public class SortCommand extends Command {
         }
 
         SortCommand otherSortCommand = (SortCommand) other;
-        return prefix.equals(otherSortCommand.prefix) && this.isAscendingOrder == otherSortCommand.isAscendingOrder;
+        return criteria.equals(otherSortCommand.criteria) && page.equals(otherSortCommand.page);
     }
 
     /**
@@ -124,9 +172,8 @@ public class SortCommand extends Command {
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("prefix", prefix)
-                .add("isAscendingOrder", isAscendingOrder)
+                .add("criteria", criteria)
+                .add("page", page)
                 .toString();
     }
 }
-
@@ -16,6 +16,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 import seedu.address.model.applicant.Applicant;
 import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.JobPosition;
@@ -70,12 +71,10 @@ public class SummaryCommand extends Command {
         ObservableList<Applicant> applicants = model.getAddressBook().getPersonList();
 
         // Combine all predicates using logical AND (all conditions must be met)
-        ObservableList<Applicant> filteredList =
-                applicants.filtered(person -> predicates.stream()
-                        .allMatch(p -> p.test(person)));
-
-        model.updateFilteredPersonList(person -> predicates.stream()
-                .allMatch(p -> p.test(person)));
+        model.updateFilteredPersonList(predicates, true);
+        // the summary covers every match, not only those on the page of an earlier search or sort
+        model.setPersonListPage(Page.ALL);
+        ObservableList<Applicant> filteredList = model.getFilteredPersonList();
 
         if (filteredList.isEmpty()) {
             throw new CommandException(MESSAGE_NO_RESULT);
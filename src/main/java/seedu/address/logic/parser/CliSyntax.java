@@ -20,5 +20,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_AFTER = new Prefix("aft/");
     public static final Prefix PREFIX_ASCENDING = new Prefix("a/");
     public static final Prefix PREFIX_DESCENDING = new Prefix("d/");
+    public static final Prefix PREFIX_LIMIT = new Prefix("lim/");
+    public static final Prefix PREFIX_OFFSET = new Prefix("off/");
 
 }
@@ -5,6 +5,8 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_EMPTY_FILENAME_FORMAT
 import static seedu.address.logic.Messages.MESSAGE_INVALID_EXPORT_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_LONG_FILENAME_FORMAT;
 
+import java.io.File;
+
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -15,7 +17,8 @@ public class ExportCommandParser implements Parser<ExportCommand> {
 
     @Override
     public ExportCommand parse(String args) throws ParseException {
-        String trimmed = args.trim();
+        boolean isWithoutDialog = args.contains(ExportCommand.FLAG_NO_DIALOG);
+        String trimmed = args.replace(ExportCommand.FLAG_NO_DIALOG, "").trim();
 
         if (trimmed.isEmpty() || trimmed.startsWith(".")) {
             throw new ParseException(MESSAGE_INVALID_EMPTY_FILENAME_FORMAT);
@@ -36,6 +39,9 @@ public class ExportCommandParser implements Parser<ExportCommand> {
             throw new ParseException(MESSAGE_INVALID_LONG_FILENAME_FORMAT);
         }
 
+        if (isWithoutDialog) {
+            return new ExportCommand(trimmed, new File(trimmed));
+        }
         return new ExportCommand(trimmed);
     }
 
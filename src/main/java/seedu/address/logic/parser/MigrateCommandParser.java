@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Locale;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.logic.commands.MigrateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MigrateCommand object.
+ */
+public class MigrateCommandParser implements Parser<MigrateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MigrateCommand
+     * and returns a MigrateCommand object for execution.
+     * @throws ParseException if the user input is not one of the supported formats
+     */
+    @Override
+    public MigrateCommand parse(String args) throws ParseException {
+        String format = args.trim().toUpperCase(Locale.ROOT);
+        for (AddressBookFormat addressBookFormat : AddressBookFormat.values()) {
+            if (addressBookFormat.name().equals(format)) {
+                return new MigrateCommand(addressBookFormat);
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MigrateCommand.MESSAGE_USAGE));
+    }
+
+}
@@ -7,7 +7,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_BEFORE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
@@ -21,6 +23,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -29,6 +32,7 @@ import javafx.util.Pair;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Page;
 import seedu.address.model.applicant.Address;
 import seedu.address.model.applicant.AfterDatePredicate;
 import seedu.address.model.applicant.BeforeDatePredicate;
@@ -52,6 +56,8 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_LIMIT = "Limit is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_OFFSET = "Offset is not an unsigned integer.";
 
     public static final int MAX_INPUT_LENGTH = 50;
     public static final String MESSAGE_INVALID_DATE_FORMAT = "Invalid date format. Please use YYYY-MM-DD.";
@@ -187,6 +193,36 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses the values of {@code PREFIX_LIMIT} and {@code PREFIX_OFFSET} in {@code argMultimap} into a {@code Page}.
+     * Every applicant is shown if neither is given. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the limit is not a non-zero unsigned integer, or the offset is not an unsigned integer.
+     */
+    public static Page parsePage(ArgumentMultimap argMultimap) throws ParseException {
+        requireNonNull(argMultimap);
+        int limit = Page.NO_LIMIT;
+        Optional<String> limitValue = argMultimap.getValue(PREFIX_LIMIT);
+        if (limitValue.isPresent()) {
+            String trimmedLimit = limitValue.get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+                throw new ParseException(MESSAGE_INVALID_LIMIT);
+            }
+            limit = Integer.parseInt(trimmedLimit);
+        }
+
+        int offset = 0;
+        Optional<String> offsetValue = argMultimap.getValue(PREFIX_OFFSET);
+        if (offsetValue.isPresent()) {
+            String trimmedOffset = offsetValue.get().trim();
+            if (!trimmedOffset.equals("0") && !StringUtil.isNonZeroUnsignedInteger(trimmedOffset)) {
+                throw new ParseException(MESSAGE_INVALID_OFFSET);
+            }
+            offset = Integer.parseInt(trimmedOffset);
+        }
+        return new Page(offset, limit);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -264,7 +300,7 @@ public class ParserUtil {
             throw new ParseException(JobPosition.MESSAGE_CONSTRAINTS);
         }
         checkLength("Job Position", trimmedJobPosition);
-        return new JobPosition(trimmedJobPosition);
+        return JobPosition.of(trimmedJobPosition);
     }
 
     /**
@@ -280,7 +316,7 @@ public class ParserUtil {
             throw new ParseException(Status.MESSAGE_CONSTRAINTS);
         }
         checkLength("Status", trimmedStatus);
-        return new Status(trimmedStatus);
+        return Status.of(trimmedStatus);
     }
 
     /**
@@ -323,7 +359,7 @@ public class ParserUtil {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
         checkLength("Tag", trimmedTag);
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -351,6 +387,6 @@ public class ParserUtil {
             throw new ParseException(Rating.MESSAGE_CONSTRAINTS);
         }
         checkLength("Rating", trimmedRating);
-        return new Rating(trimmedRating);
+        return Rating.of(trimmedRating);
     }
 }
@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A trie of prefixes, which finds the prefix that starts at a position of an arguments string by reading each of its
+ * characters once, however many prefixes there are.
+ */
+class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Creates a trie of {@code prefixes}.
+     */
+    PrefixTrie(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            requireNonNull(prefix);
+            String text = prefix.getPrefix();
+            Node node = root;
+            for (int i = 0; i < text.length(); i++) {
+                node = node.getOrAddChild(text.charAt(i));
+            }
+            node.prefix = prefix;
+        }
+    }
+
+    /**
+     * Returns the longest prefix that {@code argsString} has at {@code fromIndex}, or null if it has none.
+     */
+    Prefix longestMatchAt(String argsString, int fromIndex) {
+        Prefix match = root.prefix;
+        Node node = root;
+        for (int i = fromIndex; i < argsString.length(); i++) {
+            node = node.getChild(argsString.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                match = node.prefix;
+            }
+        }
+        return match;
+    }
+
+    /**
+     * A node of the trie, reached by the characters of the path to it.
+     * Prefixes are short and share few characters, so children are kept in small arrays that are searched in order.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        // the prefix that ends at this node, if any
+        private Prefix prefix;
+
+        Node getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrAddChild(char key) {
+            Node child = getChild(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
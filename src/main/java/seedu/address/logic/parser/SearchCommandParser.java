@@ -2,10 +2,14 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
 import static seedu.address.logic.parser.ParserUtil.COMMON_PREFIXES;
 import static seedu.address.logic.parser.ParserUtil.extractPredicates;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -15,6 +19,11 @@ import seedu.address.model.applicant.IdentifierPredicate;
  * Parses input arguments and creates a new {@code SearchCommand} object.
  */
 public class SearchCommandParser implements Parser<SearchCommand> {
+
+    private static final Prefix[] PREFIXES =
+            Stream.concat(Arrays.stream(COMMON_PREFIXES), Stream.of(PREFIX_LIMIT, PREFIX_OFFSET))
+                    .toArray(Prefix[]::new);
+
     /**
      * Parses the given {@code String} of arguments in the context of the
      * {@code SearchCommand} and returns a {@code SearchCommand} object for
@@ -26,11 +35,11 @@ public class SearchCommandParser implements Parser<SearchCommand> {
     public SearchCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, COMMON_PREFIXES);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
         if (!argMultimap.areAnyPrefixesPresent(COMMON_PREFIXES)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
         }
-        argMultimap.verifyNoDuplicatePrefixesFor(COMMON_PREFIXES);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIXES);
 
         List<IdentifierPredicate> predicates = extractPredicates(argMultimap);
 
@@ -38,6 +47,6 @@ public class SearchCommandParser implements Parser<SearchCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
         }
 
-        return new SearchCommand(predicates);
+        return new SearchCommand(predicates, ParserUtil.parsePage(argMultimap));
     }
 }
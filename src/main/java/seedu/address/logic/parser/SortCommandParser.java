@@ -4,10 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_CRITERIA_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ASCENDING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCENDING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Page;
+import seedu.address.model.applicant.SortCriterion;
 
 /**
  * Parses input arguments and creates a new SortCommand object
@@ -16,6 +23,8 @@ public class SortCommandParser implements Parser<SortCommand> {
 
     /**
      * Parse the given {@code String} and create a SortCommand object.
+     * The arguments are one or more sorting criteria, each optionally followed by its sorting order,
+     * and then optionally the page of the sorted list to show.
      * The checking of valid sorting criteria is done by SortCommand constructor
      * @param args is the sorting criteria from the user input
      * @throws ParseException if the user input is not a valid sorting criteria
@@ -24,33 +33,38 @@ public class SortCommandParser implements Parser<SortCommand> {
     public SortCommand parse(String args) throws ParseException {
         requireNonNull(args);
         try {
-            String input = args.trim();
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LIMIT, PREFIX_OFFSET);
+            argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LIMIT, PREFIX_OFFSET);
+            Page page = ParserUtil.parsePage(argMultimap);
+
+            String input = argMultimap.getPreamble();
             String[] parts = input.split("\\s+");
 
-            if (parts.length > 2) {
-                throw new ParseException(String.format(
-                        MESSAGE_INVALID_CRITERIA_FORMAT, "sorting", SortCommand.MESSAGE_USAGE));
-            }
-            // if user didn't specify the order, sort in ascending order by default
-            boolean isAscendingOrder = true;
-
-            if (parts.length > 1) {
-                Prefix sortOrder = new Prefix(parts[1]);
-                if (sortOrder.equals(PREFIX_ASCENDING)) {
-                    isAscendingOrder = true;
-                } else if (sortOrder.equals(PREFIX_DESCENDING)) {
-                    isAscendingOrder = false;
-                } else {
+            List<SortCriterion> criteria = new ArrayList<>();
+            for (int i = 0; i < parts.length; i++) {
+                Prefix criterion = new Prefix(parts[i]);
+                if (isSortOrder(criterion)) {
+                    // an order must follow the criterion it applies to
                     throw new ParseException(String.format(
                             MESSAGE_INVALID_CRITERIA_FORMAT, "sorting", SortCommand.MESSAGE_USAGE));
                 }
+
+                // if user didn't specify the order, sort in ascending order by default
+                boolean isAscendingOrder = true;
+                if (i + 1 < parts.length && isSortOrder(new Prefix(parts[i + 1]))) {
+                    isAscendingOrder = new Prefix(parts[i + 1]).equals(PREFIX_ASCENDING);
+                    i++;
+                }
+                criteria.add(new SortCriterion(criterion, isAscendingOrder));
             }
-            String criteria = parts[0];
-            Prefix p = new Prefix(criteria);
-            return new SortCommand(p, isAscendingOrder);
+            return new SortCommand(criteria, page);
 
         } catch (CommandException e) {
             throw new ParseException(e.getMessage());
         }
     }
+
+    private static boolean isSortOrder(Prefix prefix) {
+        return prefix.equals(PREFIX_ASCENDING) || prefix.equals(PREFIX_DESCENDING);
+    }
 }
@@ -3,11 +3,14 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.parser.Prefix;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.ApplicantListChange;
+import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.UniqueApplicantList;
 
 /**
@@ -51,11 +54,16 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If the applicants of {@code newData} are created as they are read, they are read the same way here.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData.isLazilyMaterialized()) {
+            persons.setPersonsLazily(newData.getPersonListSnapshot());
+        } else {
+            setPersons(newData.getPersonList());
+        }
     }
 
     //// applicant-level operations
@@ -68,6 +76,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(applicant);
     }
 
+    /**
+     * Returns a predicate that matches the applicants that satisfy all of {@code predicates} if {@code isMatchAll}
+     * is true, or at least one of them otherwise.
+     *
+     * @see UniqueApplicantList#createSearchPredicate(List, boolean)
+     */
+    public Predicate<Applicant> createSearchPredicate(List<? extends IdentifierPredicate> predicates,
+                                                      boolean isMatchAll) {
+        return persons.createSearchPredicate(predicates, isMatchAll);
+    }
+
     /**
      * Adds an applicant to the address book.
      * The applicant must not already exist in the address book.
@@ -76,6 +95,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code applicants} to the address book at once.
+     * None of them may already exist in the address book, and they must not be duplicates of each other.
+     */
+    public void addPersons(List<Applicant> applicants) {
+        persons.addAll(applicants);
+    }
+
     /**
      * Replaces the given applicant {@code target} in the list with {@code editedApplicant}.
      * {@code target} must exist in the address book.
@@ -101,17 +128,38 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Sort {@code internalList} in {@code AddressBook} based on the prefix.
-     * @param prefix is the sorting criteria.
+     * Keeps the profile pictures of removed applicants until {@link #applyDeferredProfilePictureDeletions(boolean)}.
      */
-    public void sortPersons(Prefix prefix, boolean isAscendingOrder) {
-        requireNonNull(prefix);
+    public void deferProfilePictureDeletions() {
+        persons.deferProfilePictureDeletions();
+    }
 
-        if (isAscendingOrder) {
-            persons.sortPersonsByAscendingOrder(prefix);
-        } else {
-            persons.sortPersonsByDescendingOrder(prefix);
-        }
+    /**
+     * Deletes the profile pictures kept since {@link #deferProfilePictureDeletions()} if {@code isCommitted}.
+     */
+    public void applyDeferredProfilePictureDeletions(boolean isCommitted) {
+        persons.applyDeferredProfilePictureDeletions(isCommitted);
+    }
+
+    /**
+     * Records a change made in place to the applicants in this {@code AddressBook} that is not known in detail.
+     */
+    public void markModified() {
+        persons.markModified();
+    }
+
+    /**
+     * Records a change made in place to {@code applicant} in this {@code AddressBook}, such as a new profile picture.
+     */
+    public void markModified(Applicant applicant) {
+        persons.markModified(applicant);
+    }
+
+    /**
+     * Returns the modification version of this {@code AddressBook}, which increases with every change to it.
+     */
+    public long getModificationVersion() {
+        return persons.getModificationVersion();
     }
 
     //// util methods
@@ -128,6 +176,24 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns true until the applicants read from a lazily materialized address book are copied into this one.
+     */
+    @Override
+    public boolean isLazilyMaterialized() {
+        return persons.getLazySource().isPresent();
+    }
+
+    @Override
+    public List<Applicant> getPersonListSnapshot() {
+        return persons.getLazySource().orElseGet(() -> List.copyOf(getPersonList()));
+    }
+
+    @Override
+    public Optional<ApplicantListChange> getLatestChange() {
+        return Optional.of(persons.getLatestChange());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
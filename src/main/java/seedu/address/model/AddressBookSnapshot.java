@@ -0,0 +1,61 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.ApplicantListChange;
+
+/**
+ * A copy of the applicant list of an address book, as it was when the copy was made.
+ * <p>
+ * Unlike {@code new AddressBook(source)}, taking a snapshot only copies the references to the applicants, and does
+ * not build the indexes that an {@code AddressBook} keeps, so it is cheap enough to take on every save.
+ * A snapshot of a lazily materialized address book shares its source instead, so no applicant is created for it.
+ * <p>
+ * The applicants themselves are shared with the source. They are immutable except for their profile picture path,
+ * which the UI changes in place before marking the address book as modified, so a snapshot taken before such a
+ * change may be written with either path, and the next snapshot is written with the new one.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final List<Applicant> applicants;
+    private final ObservableList<Applicant> observableApplicants;
+    private final boolean isLazilyMaterialized;
+    private final Optional<ApplicantListChange> latestChange;
+
+    /**
+     * Creates a snapshot of the applicants in {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        applicants = source.getPersonListSnapshot();
+        observableApplicants = FXCollections.unmodifiableObservableList(FXCollections.observableList(applicants));
+        isLazilyMaterialized = source.isLazilyMaterialized();
+        latestChange = source.getLatestChange();
+    }
+
+    @Override
+    public ObservableList<Applicant> getPersonList() {
+        return observableApplicants;
+    }
+
+    @Override
+    public boolean isLazilyMaterialized() {
+        return isLazilyMaterialized;
+    }
+
+    @Override
+    public List<Applicant> getPersonListSnapshot() {
+        return applicants;
+    }
+
+    @Override
+    public Optional<ApplicantListChange> getLatestChange() {
+        return latestChange;
+    }
+}
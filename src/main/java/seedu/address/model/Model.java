@@ -1,13 +1,16 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.logic.parser.Prefix;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.Rating;
+import seedu.address.model.applicant.SortCriterion;
 import seedu.address.model.applicant.Status;
 
 /**
@@ -47,6 +50,16 @@ public interface Model {
      */
     void setAddressBookFilePath(Path addressBookFilePath);
 
+    /**
+     * Returns the user prefs' address book file format.
+     */
+    AddressBookFormat getAddressBookFormat();
+
+    /**
+     * Sets the user prefs' address book file format.
+     */
+    void setAddressBookFormat(AddressBookFormat addressBookFormat);
+
     /**
      * Replaces address book data with the data in {@code addressBook}.
      */
@@ -55,6 +68,23 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the modification version of the address book, which increases with every change to it.
+     * Equal versions mean that the address book has not changed in between.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Records a change to the address book that is not known in detail, so that the whole address book is treated
+     * as changed.
+     */
+    void markAddressBookModified();
+
+    /**
+     * Records a change made in place to {@code applicant} in the address book, such as a new profile picture.
+     */
+    void markPersonModified(Applicant applicant);
+
     /**
      * Returns true if an applicant with the same identity as {@code applicant} exists in the address book.
      */
@@ -68,12 +98,31 @@ public interface Model {
 
     void deleteAllProfilePicture();
 
+    /**
+     * Keeps the profile pictures of the applicants that are deleted from now on, until
+     * {@link #applyDeferredProfilePictureDeletions(boolean)} either deletes them or leaves them in place.
+     * The deleted applicants keep their picture paths as well, so they can be restored as they were.
+     */
+    void deferProfilePictureDeletions();
+
+    /**
+     * Deletes the profile pictures kept since {@link #deferProfilePictureDeletions()} if {@code isCommitted},
+     * or leaves them in place otherwise. Profile pictures are deleted at once again from then on.
+     */
+    void applyDeferredProfilePictureDeletions(boolean isCommitted);
+
     /**
      * Adds the given applicant.
      * {@code applicant} must not already exist in the address book.
      */
     void addPerson(Applicant applicant);
 
+    /**
+     * Adds the given applicants, notifying listeners of the address book once.
+     * None of {@code applicants} may already exist in the address book, or be duplicates of each other.
+     */
+    void addPersons(List<Applicant> applicants);
+
     /**
      * Replaces the given applicant {@code target} with {@code editedApplicant}.
      * {@code target} must exist in the address book.
@@ -86,10 +135,43 @@ public interface Model {
 
     Applicant setRating(Applicant target, Rating rating);
 
-    // Added for Applicant sorting
-    void sortPersons(Prefix prefix, boolean isAscendingOrder);
+    /**
+     * Sorts the filtered applicant list by the first of {@code criteria}, breaking ties with the next one and so on.
+     * Only the view is sorted: the applicants in the address book keep their order.
+     */
+    void sortPersons(List<SortCriterion> criteria);
+
+    /**
+     * Cuts the filtered applicant list to {@code page}, after it is filtered and sorted.
+     * The page is kept until it is replaced, as the list is filtered, sorted or changed.
+     */
+    void setPersonListPage(Page page);
+
+    /**
+     * Returns the current filter, sort and page of the filtered applicant list.
+     */
+    PersonListView getPersonListView();
+
+    /**
+     * Filters, sorts and cuts the filtered applicant list as it was when {@code view} was returned by
+     * {@link #getPersonListView()}.
+     */
+    void setPersonListView(PersonListView view);
 
-    /** Returns an unmodifiable view of the filtered applicant list */
+    /**
+     * Stops notifying listeners of the filtered applicant list of its changes, until
+     * {@link #resumeFilteredPersonListNotifications()} notifies them of all of the changes at once.
+     * The list itself stays up to date in the meantime.
+     */
+    void suspendFilteredPersonListNotifications();
+
+    /**
+     * Notifies listeners of the filtered applicant list of every change to it since
+     * {@link #suspendFilteredPersonListNotifications()}, and of later changes as they happen.
+     */
+    void resumeFilteredPersonListNotifications();
+
+    /** Returns an unmodifiable view of the filtered applicant list, in the order it was last sorted in */
     ObservableList<Applicant> getFilteredPersonList();
 
     /**
@@ -98,5 +180,18 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Applicant> predicate);
 
+    /**
+     * Updates the filter of the filtered applicant list to the applicants that satisfy all of {@code predicates}
+     * if {@code isMatchAll} is true, or at least one of them otherwise.
+     * Unlike combining the predicates by hand, the search is answered from the index of the address book.
+     * @throws NullPointerException if {@code predicates} is null.
+     */
+    void updateFilteredPersonList(List<? extends IdentifierPredicate> predicates, boolean isMatchAll);
+
     int getFilteredPersonListSize();
+
+    /**
+     * Returns the number of applicants that pass the filter of the filtered applicant list, on every page.
+     */
+    int getMatchedPersonCount();
 }
@@ -4,16 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.logic.parser.Prefix;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.ApplicantComparators;
+import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.Rating;
+import seedu.address.model.applicant.SortCriterion;
 import seedu.address.model.applicant.Status;
 
 /**
@@ -25,6 +31,13 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Applicant> filteredApplicants;
+    // the whole filtered list in the order of the last sort, only kept while it is shown, as sorting reads every
+    // applicant, which a lazily read address book should not do before it has to
+    private SortedList<Applicant> sortedApplicants = null;
+    private final PagedApplicantList pagedApplicants;
+    // the order of the last sort, or null if the list has not been sorted
+    private Comparator<Applicant> comparator = null;
+    private Page page = Page.ALL;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -37,6 +50,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredApplicants = new FilteredList<>(this.addressBook.getPersonList());
+        pagedApplicants = new PagedApplicantList(filteredApplicants);
     }
 
     public ModelManager() {
@@ -78,6 +92,17 @@ public class ModelManager implements Model {
         userPrefs.setAddressBookFilePath(addressBookFilePath);
     }
 
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return userPrefs.getAddressBookFormat();
+    }
+
+    @Override
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        userPrefs.setAddressBookFormat(addressBookFormat);
+    }
+
     //=========== AddressBook ================================================================================
 
     @Override
@@ -90,6 +115,22 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getModificationVersion();
+    }
+
+    @Override
+    public void markAddressBookModified() {
+        addressBook.markModified();
+    }
+
+    @Override
+    public void markPersonModified(Applicant applicant) {
+        requireNonNull(applicant);
+        addressBook.markModified(applicant);
+    }
+
     @Override
     public boolean hasPerson(Applicant applicant) {
         requireNonNull(applicant);
@@ -105,12 +146,29 @@ public class ModelManager implements Model {
         addressBook.removeAllProfilePicture();
     }
 
+    @Override
+    public void deferProfilePictureDeletions() {
+        addressBook.deferProfilePictureDeletions();
+    }
+
+    @Override
+    public void applyDeferredProfilePictureDeletions(boolean isCommitted) {
+        addressBook.applyDeferredProfilePictureDeletions(isCommitted);
+    }
+
     @Override
     public void addPerson(Applicant applicant) {
         addressBook.addPerson(applicant);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Applicant> applicants) {
+        requireNonNull(applicants);
+        addressBook.addPersons(applicants);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Applicant target, Applicant editedApplicant) {
         requireAllNonNull(target, editedApplicant);
@@ -123,8 +181,8 @@ public class ModelManager implements Model {
         requireAllNonNull(target, status);
 
         Applicant editedApplicant = new Applicant(target.getName(), target.getPhone(), target.getEmail(),
-                target.getJobPosition(), status, target.getAddress(), target.getAddedTime(), target.getTags(),
-                target.getRating(), target.getProfilePicturePath());
+                target.getJobPosition(), Status.of(status.value), target.getAddress(), target.getAddedTime(),
+                target.getTags(), target.getRating(), target.getProfilePicturePath());
         this.setPerson(target, editedApplicant);
 
         return editedApplicant;
@@ -136,29 +194,82 @@ public class ModelManager implements Model {
 
         Applicant editedApplicant = new Applicant(target.getName(), target.getPhone(), target.getEmail(),
                 target.getJobPosition(), target.getStatus(), target.getAddress(), target.getAddedTime(),
-                target.getTags(), rating, target.getProfilePicturePath());
+                target.getTags(), Rating.of(rating.value), target.getProfilePicturePath());
         this.setPerson(target, editedApplicant);
 
         return editedApplicant;
     }
 
-    // Added for applicant sorting
     @Override
-    public void sortPersons(Prefix prefix, boolean isAscendingOrder) {
-        requireAllNonNull(prefix);
+    public void sortPersons(List<SortCriterion> criteria) {
+        requireNonNull(criteria);
+
+        // ignore non-sorting prefixes
+        ApplicantComparators.forCriteria(criteria).ifPresent(order -> {
+            comparator = order;
+            updateView();
+        });
+    }
+
+    @Override
+    public void setPersonListPage(Page page) {
+        requireNonNull(page);
+        this.page = page;
+        updateView();
+    }
+
+    @Override
+    public PersonListView getPersonListView() {
+        return new PersonListView(filteredApplicants.getPredicate(), comparator, page);
+    }
 
-        addressBook.sortPersons(prefix, isAscendingOrder);
+    @Override
+    public void setPersonListView(PersonListView view) {
+        requireNonNull(view);
+        filteredApplicants.setPredicate(view.predicate);
+        comparator = view.comparator;
+        page = view.page;
+        updateView();
+    }
+
+    /**
+     * Shows the last sort and page in the filtered applicant list.
+     * A single page is selected straight from the filtered list, so that the whole list is not sorted for it.
+     */
+    private void updateView() {
+        if (!page.isAll()) {
+            pagedApplicants.showPage(page, comparator);
+            sortedApplicants = null;
+        } else if (comparator == null) {
+            pagedApplicants.showAll();
+            sortedApplicants = null;
+        } else if (sortedApplicants == null) {
+            sortedApplicants = new SortedList<>(filteredApplicants, comparator);
+            pagedApplicants.showAll(sortedApplicants);
+        } else {
+            sortedApplicants.setComparator(comparator);
+        }
     }
 
     //=========== Filtered Applicant List Accessors =============================================================
 
+    @Override
+    public void suspendFilteredPersonListNotifications() {
+        pagedApplicants.suspendChanges();
+    }
+
+    @Override
+    public void resumeFilteredPersonListNotifications() {
+        pagedApplicants.resumeChanges();
+    }
+
     /**
      * Returns an unmodifiable view of the list of {@code Applicant} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, filtered by the last search, sorted by the last sort and cut to the last page
      */
     @Override
     public ObservableList<Applicant> getFilteredPersonList() {
-        return filteredApplicants;
+        return pagedApplicants;
     }
 
     @Override
@@ -167,7 +278,18 @@ public class ModelManager implements Model {
         filteredApplicants.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(List<? extends IdentifierPredicate> predicates, boolean isMatchAll) {
+        requireNonNull(predicates);
+        filteredApplicants.setPredicate(addressBook.createSearchPredicate(predicates, isMatchAll));
+    }
+
     public int getFilteredPersonListSize() {
+        return pagedApplicants.size();
+    }
+
+    @Override
+    public int getMatchedPersonCount() {
         return filteredApplicants.size();
     }
 
@@ -185,7 +307,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredApplicants.equals(otherModelManager.filteredApplicants);
+                && pagedApplicants.equals(otherModelManager.pagedApplicants);
     }
 
 }
@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The part of the filtered applicant list that is shown: at most {@code limit} applicants,
+ * starting after the first {@code offset} applicants.
+ * Guarantees: immutable; offset is not negative and limit is positive.
+ */
+public class Page {
+
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    /** The page that shows every applicant. */
+    public static final Page ALL = new Page(0, NO_LIMIT);
+
+    public final int offset;
+    public final int limit;
+
+    /**
+     * Constructs a {@code Page} of at most {@code limit} applicants starting after the first {@code offset}.
+     */
+    public Page(int offset, int limit) {
+        checkArgument(offset >= 0, "Offset must not be negative");
+        checkArgument(limit > 0, "Limit must be positive");
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns true if this page shows every applicant.
+     */
+    public boolean isAll() {
+        return offset == 0 && limit == NO_LIMIT;
+    }
+
+    /**
+     * Returns the index after the last applicant of this page in a list of {@code size} applicants.
+     */
+    public int getEnd(int size) {
+        return (int) Math.min((long) offset + limit, size);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Page)) {
+            return false;
+        }
+
+        Page otherPage = (Page) other;
+        return offset == otherPage.offset && limit == otherPage.limit;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * offset + limit;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("offset", offset)
+                .add("limit", limit)
+                .toString();
+    }
+}
@@ -0,0 +1,251 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * An unmodifiable view of one page of a list of applicants.
+ * <p>
+ * While every applicant is shown, the view is the source list itself, or a view of it such as a sorted one, and the
+ * changes of that list are passed on as they are. Otherwise, the page is selected from the source list whenever it
+ * changes: the applicants up to the end of the page are kept in a heap bounded by the size of the page, so the source
+ * list is never sorted as a whole.
+ * <p>
+ * Changes can be suspended, so that listeners are notified of a run of changes to the source list at once. The view
+ * stays up to date in the meantime, but a page is only selected again when it is next read.
+ */
+class PagedApplicantList extends ObservableListBase<Applicant> {
+
+    private final ObservableList<Applicant> source;
+    private final ListChangeListener<Applicant> shownListListener = this::shownListChanged;
+    // the list shown while every applicant is shown, which is source or a view of it, or null while a page is shown
+    private ObservableList<Applicant> shownList;
+    private Page page = Page.ALL;
+    private Comparator<Applicant> comparator = null;
+    // the applicants of the page, or null while every applicant of source is shown
+    private List<Applicant> applicants = null;
+    // true if the source list has changed since the page was selected
+    private boolean isPageStale = false;
+    // the applicants shown when changes were suspended, or null if they are not suspended
+    private List<Applicant> shownBeforeSuspension = null;
+
+    /**
+     * Creates a view that shows every applicant of {@code source}.
+     */
+    PagedApplicantList(ObservableList<Applicant> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(this::sourceChanged);
+        shownList = source;
+        shownList.addListener(shownListListener);
+    }
+
+    /**
+     * Shows every applicant of the source list, in the order of the source list.
+     */
+    void showAll() {
+        showAll(source);
+    }
+
+    /**
+     * Shows every applicant of {@code view}, which must be a view of every applicant of the source list, such as a
+     * sorted one, in the order of {@code view}.
+     */
+    void showAll(ObservableList<Applicant> view) {
+        requireNonNull(view);
+        if (view == shownList) {
+            return;
+        }
+        List<Applicant> removed = applicants == null ? new ArrayList<>(shownList) : applicants;
+        showList(view);
+        applicants = null;
+        page = Page.ALL;
+        comparator = null;
+        fireReplaced(removed);
+    }
+
+    /**
+     * Shows the applicants of the source list that fall on {@code page} when it is sorted by {@code comparator},
+     * or in the order of the source list if {@code comparator} is null.
+     */
+    void showPage(Page page, Comparator<Applicant> comparator) {
+        requireNonNull(page);
+        List<Applicant> removed = applicants == null ? new ArrayList<>(shownList) : applicants;
+        showList(null);
+        this.page = page;
+        this.comparator = comparator;
+        applicants = selectPage();
+        isPageStale = false;
+        fireReplaced(removed);
+    }
+
+    /**
+     * Passes on the changes of {@code list}, or of no list if it is null, instead of those of the list shown before.
+     */
+    private void showList(ObservableList<Applicant> list) {
+        if (shownList != null) {
+            shownList.removeListener(shownListListener);
+        }
+        shownList = list;
+        if (shownList != null) {
+            shownList.addListener(shownListListener);
+        }
+    }
+
+    /**
+     * Stops notifying listeners of changes, until {@link #resumeChanges()} notifies them of all of them at once.
+     */
+    void suspendChanges() {
+        if (shownBeforeSuspension == null) {
+            shownBeforeSuspension = new ArrayList<>(this);
+        }
+    }
+
+    /**
+     * Notifies listeners of the changes since {@link #suspendChanges()} as a single change, and of every change
+     * after it as it happens.
+     */
+    void resumeChanges() {
+        if (shownBeforeSuspension == null) {
+            return;
+        }
+        List<Applicant> removed = shownBeforeSuspension;
+        shownBeforeSuspension = null;
+        fireReplaced(removed);
+    }
+
+    @Override
+    public Applicant get(int index) {
+        return applicants == null ? shownList.get(index) : getPage().get(index);
+    }
+
+    @Override
+    public int size() {
+        return applicants == null ? shownList.size() : getPage().size();
+    }
+
+    /**
+     * Returns the applicants of the page, selecting them again if the source list has changed since.
+     */
+    private List<Applicant> getPage() {
+        if (isPageStale) {
+            applicants = selectPage();
+            isPageStale = false;
+        }
+        return applicants;
+    }
+
+    private void sourceChanged(ListChangeListener.Change<? extends Applicant> change) {
+        if (applicants == null) {
+            // the shown list passes on its own changes
+            return;
+        }
+        if (shownBeforeSuspension != null) {
+            isPageStale = true;
+            return;
+        }
+        List<Applicant> removed = getPage();
+        applicants = selectPage();
+        fireReplaced(removed);
+    }
+
+    private void shownListChanged(ListChangeListener.Change<? extends Applicant> change) {
+        if (shownBeforeSuspension != null) {
+            return;
+        }
+
+        beginChange();
+        try {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    int[] permutation = new int[shownList.size()];
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        permutation[i] = change.getPermutation(i);
+                    }
+                    nextPermutation(change.getFrom(), change.getTo(), permutation);
+                } else if (change.wasUpdated()) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        nextUpdate(i);
+                    }
+                } else {
+                    if (change.wasRemoved()) {
+                        nextRemove(change.getFrom(), change.getRemoved());
+                    }
+                    if (change.wasAdded()) {
+                        nextAdd(change.getFrom(), change.getTo());
+                    }
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns the applicants of the source list that fall on the page.
+     */
+    private List<Applicant> selectPage() {
+        int end = page.getEnd(source.size());
+        if (page.offset >= end) {
+            return List.of();
+        }
+        if (comparator == null) {
+            return new ArrayList<>(source.subList(page.offset, end));
+        }
+
+        // applicants are ranked by their index in source after the comparator, which keeps the page stable for
+        // orders that leave ties, unlike the orders of a sort, which never do
+        Comparator<Integer> byRank = (i, j) -> {
+            int comparison = comparator.compare(source.get(i), source.get(j));
+            return comparison != 0 ? comparison : Integer.compare(i, j);
+        };
+        // holds the first end applicants seen so far, with the last of them at its head
+        PriorityQueue<Integer> firstApplicants = new PriorityQueue<>(end, byRank.reversed());
+        for (int i = 0; i < source.size(); i++) {
+            if (firstApplicants.size() < end) {
+                firstApplicants.add(i);
+            } else if (byRank.compare(i, firstApplicants.peek()) < 0) {
+                firstApplicants.poll();
+                firstApplicants.add(i);
+            }
+        }
+
+        Integer[] ranked = firstApplicants.toArray(new Integer[0]);
+        Arrays.sort(ranked, byRank);
+        List<Applicant> selected = new ArrayList<>(end - page.offset);
+        for (int rank = page.offset; rank < end; rank++) {
+            selected.add(source.get(ranked[rank]));
+        }
+        return selected;
+    }
+
+    /**
+     * Notifies listeners that {@code removed} has been replaced by the current contents of the view.
+     */
+    private void fireReplaced(List<Applicant> removed) {
+        if (shownBeforeSuspension != null) {
+            return;
+        }
+        beginChange();
+        try {
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (size() > 0) {
+                nextAdd(0, size());
+            }
+        } finally {
+            endChange();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * The filter, sort and page of the filtered applicant list at one point, so that they can be put back later.
+ * Guarantees: immutable.
+ */
+public class PersonListView {
+
+    final Predicate<? super Applicant> predicate;
+    final Comparator<Applicant> comparator;
+    final Page page;
+
+    /**
+     * Constructs a {@code PersonListView}. A null {@code predicate} or {@code comparator} means that the list is
+     * not filtered or not sorted.
+     */
+    PersonListView(Predicate<? super Applicant> predicate, Comparator<Applicant> comparator, Page page) {
+        requireNonNull(page);
+        this.predicate = predicate;
+        this.comparator = comparator;
+        this.page = page;
+    }
+}
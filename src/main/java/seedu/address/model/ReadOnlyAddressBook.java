@@ -1,7 +1,11 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.ApplicantListChange;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +18,29 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Applicant> getPersonList();
 
+    /**
+     * Returns true if the applicants in {@link #getPersonList()} are only created as they are read,
+     * in which case copies of this address book read them lazily as well.
+     */
+    default boolean isLazilyMaterialized() {
+        return false;
+    }
+
+    /**
+     * Returns the applicants in {@link #getPersonList()} as they are now, in a list that never changes.
+     * If the address book {@link #isLazilyMaterialized()}, the applicants of the returned list are created as they
+     * are read too, so copies of the address book are made from this list.
+     */
+    default List<Applicant> getPersonListSnapshot() {
+        return List.copyOf(getPersonList());
+    }
+
+    /**
+     * Returns the latest change made to the applicants in {@link #getPersonList()}, which links to the changes made
+     * before it, or an empty {@code Optional} if changes to this address book are not recorded.
+     */
+    default Optional<ApplicantListChange> getLatestChange() {
+        return Optional.empty();
+    }
+
 }
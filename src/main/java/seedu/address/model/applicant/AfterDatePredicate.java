@@ -19,6 +19,10 @@ public class AfterDatePredicate extends IdentifierPredicate {
         this.afterDate = afterDate;
     }
 
+    public LocalDateTime getAfterDate() {
+        return afterDate;
+    }
+
     @Override
     public boolean test(Applicant applicant) {
         return applicant.getAddedTime().isAfter(afterDate);
@@ -35,12 +35,8 @@ public class Applicant {
     private final LocalDateTime addedTime;
     private final Set<Tag> tags = new HashSet<>();
     private final Rating rating;
-    private String profilePicturePath;
-
-    public static final Applicant NULL_APPLICANT = new Applicant(
-            new Name("name"), new Phone("12345678"), new Email("null@mail.com"),
-            new JobPosition("job"), new Status("status"), new Address("address"),
-            LocalDateTime.now(), new HashSet<>(), new Rating("-1"), "path");
+    // changed in place by the UI, and read by the background saver
+    private volatile String profilePicturePath;
 
     /**
      * Constructor of Applicant.
@@ -72,7 +68,7 @@ public class Applicant {
     public Applicant(Name name, Phone phone, Email email, JobPosition jobPosition, Status status,
                      Address address, LocalDateTime addedTime, Set<Tag> tags) {
         this(name, phone, email, jobPosition, status, address, addedTime, tags,
-                new Rating("-1"), null);
+                Rating.of("-1"), null);
     }
 
     /**
@@ -90,7 +86,7 @@ public class Applicant {
     public Applicant(Name name, Phone phone, Email email, JobPosition jobPosition, Status status,
                      Address address, LocalDateTime addedTime, Set<Tag> tags, String profilePicturePath) {
         this(name, phone, email, jobPosition, status, address, addedTime, tags,
-                new Rating("-1"), profilePicturePath);
+                Rating.of("-1"), profilePicturePath);
     }
 
     public Name getName() {
@@ -0,0 +1,87 @@
+package seedu.address.model.applicant;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.parser.Prefix;
+
+/**
+ * The orders that applicants can be sorted in.
+ * <p>
+ * Names, emails, job positions and statuses are sorted in lexicographic order with case sensitivity
+ * (0, 1, ..., 9, A, a, B, b, ..., Z, z), by their cached sort keys. Added times are sorted in chronological order,
+ * and ratings by score, with unassigned ratings last in both directions.
+ */
+public class ApplicantComparators {
+
+    public static final Comparator<Applicant> BY_NAME = Comparator.comparing(a -> a.getName().getSortKey());
+    public static final Comparator<Applicant> BY_EMAIL = Comparator.comparing(a -> a.getEmail().getSortKey());
+    public static final Comparator<Applicant> BY_ADDED_TIME = Comparator.comparing(Applicant::getAddedTime);
+    public static final Comparator<Applicant> BY_JOB_POSITION =
+            Comparator.comparing(a -> a.getJobPosition().getSortKey());
+    public static final Comparator<Applicant> BY_STATUS = Comparator.comparing(a -> a.getStatus().getSortKey());
+    public static final Comparator<Applicant> BY_RATING_ASCENDING =
+            Comparator.comparing(Applicant::getRating, Rating.ASCENDING_ORDER);
+    public static final Comparator<Applicant> BY_RATING_DESCENDING =
+            Comparator.comparing(Applicant::getRating, Rating.DESCENDING_ORDER);
+
+    // breaks the ties left by every criterion, emails being unique, so that a sort gives one order whatever the
+    // list was sorted by before, and a page of it is the same as the same rows of the whole sorted list
+    private static final Comparator<Applicant> TIEBREAKER = BY_ADDED_TIME.thenComparing(BY_EMAIL);
+
+    private ApplicantComparators() {} // prevents instantiation
+
+    /**
+     * Returns the order of applicants that sorting by {@code prefix} in the given direction gives,
+     * or an empty optional if applicants cannot be sorted by {@code prefix}.
+     */
+    public static Optional<Comparator<Applicant>> forPrefix(Prefix prefix, boolean isAscending) {
+        requireNonNull(prefix);
+        if (prefix.equals(PREFIX_RATING)) {
+            return Optional.of(isAscending ? BY_RATING_ASCENDING : BY_RATING_DESCENDING);
+        }
+
+        Comparator<Applicant> ascending;
+        if (prefix.equals(PREFIX_NAME)) {
+            ascending = BY_NAME;
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            ascending = BY_EMAIL;
+        } else if (prefix.equals(PREFIX_ADDED_TIME)) {
+            ascending = BY_ADDED_TIME;
+        } else if (prefix.equals(PREFIX_JOB_POSITION)) {
+            ascending = BY_JOB_POSITION;
+        } else if (prefix.equals(PREFIX_STATUS)) {
+            ascending = BY_STATUS;
+        } else {
+            return Optional.empty();
+        }
+        return Optional.of(isAscending ? ascending : ascending.reversed());
+    }
+
+    /**
+     * Returns the order that sorts applicants by the first of {@code criteria}, breaking ties with the next one
+     * and so on, or an empty optional if none of {@code criteria} can be sorted by.
+     * Criteria that cannot be sorted by are skipped. Applicants that tie on every criterion are sorted by added time
+     * and then by email, so no two applicants of an address book tie.
+     */
+    public static Optional<Comparator<Applicant>> forCriteria(List<SortCriterion> criteria) {
+        requireNonNull(criteria);
+        Comparator<Applicant> composite = null;
+        for (SortCriterion criterion : criteria) {
+            Optional<Comparator<Applicant>> comparator = forPrefix(criterion.prefix, criterion.isAscendingOrder);
+            if (comparator.isPresent()) {
+                composite = composite == null ? comparator.get() : composite.thenComparing(comparator.get());
+            }
+        }
+        return Optional.ofNullable(composite).map(order -> order.thenComparing(TIEBREAKER));
+    }
+}
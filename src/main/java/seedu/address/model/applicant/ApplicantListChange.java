@@ -0,0 +1,140 @@
+package seedu.address.model.applicant;
+
+import java.util.List;
+
+/**
+ * A change made to a {@code UniqueApplicantList}, linked to the change made before it.
+ * <p>
+ * Changes never change, and a list only links newer changes to its latest one, so a reader that remembers the
+ * latest change it has seen can later find every change made since, by walking back from the latest change of the
+ * list until it gets to the remembered one. The storage uses this to write only the applicants that changed.
+ * <p>
+ * The chain is cut after {@link #MAX_CHAIN_LENGTH} changes, so that old changes and the applicants they hold can be
+ * garbage collected, and at changes that are not known in detail. A reader that does not find the change it
+ * remembers cannot tell what changed, and has to take the whole list as changed.
+ */
+public class ApplicantListChange {
+
+    /**
+     * The kinds of change that can be made to a {@code UniqueApplicantList}.
+     */
+    public enum Kind {
+        /** Applicants were appended to the end of the list. */
+        ADD,
+        /** An applicant was removed from the list. */
+        REMOVE,
+        /** An applicant was replaced by another one at the same position in the list. */
+        SET,
+        /** An applicant in the list was changed in place, such as given a new profile picture. */
+        MODIFY,
+        /** The whole list was replaced, or its applicants were changed in place in a way that was not recorded. */
+        RESET
+    }
+
+    static final int MAX_CHAIN_LENGTH = 1024;
+
+    private final Kind kind;
+    private final Applicant removed;
+    private final List<Applicant> added;
+    private final ApplicantListChange previous;
+    private final int chainLength;
+    private final boolean isFirstOfList;
+
+    private ApplicantListChange(Kind kind, Applicant removed, List<Applicant> added, ApplicantListChange previous,
+                                boolean isFirstOfList) {
+        this.kind = kind;
+        this.removed = removed;
+        this.added = added;
+        this.isFirstOfList = isFirstOfList;
+        if (previous == null || previous.chainLength >= MAX_CHAIN_LENGTH) {
+            this.previous = null;
+            this.chainLength = 1;
+        } else {
+            this.previous = previous;
+            this.chainLength = previous.chainLength + 1;
+        }
+    }
+
+    /**
+     * Returns the change that a new, empty list starts with.
+     */
+    static ApplicantListChange ofNewList() {
+        return new ApplicantListChange(Kind.RESET, null, List.of(), null, true);
+    }
+
+    /**
+     * Returns the change that appended {@code applicants}, made after {@code previous}.
+     */
+    static ApplicantListChange ofAdd(List<Applicant> applicants, ApplicantListChange previous) {
+        return new ApplicantListChange(Kind.ADD, null, List.copyOf(applicants), previous, false);
+    }
+
+    /**
+     * Returns the change that removed {@code applicant}, made after {@code previous}.
+     */
+    static ApplicantListChange ofRemove(Applicant applicant, ApplicantListChange previous) {
+        return new ApplicantListChange(Kind.REMOVE, applicant, List.of(), previous, false);
+    }
+
+    /**
+     * Returns the change that replaced {@code target} with {@code editedApplicant}, made after {@code previous}.
+     */
+    static ApplicantListChange ofSet(Applicant target, Applicant editedApplicant, ApplicantListChange previous) {
+        return new ApplicantListChange(Kind.SET, target, List.of(editedApplicant), previous, false);
+    }
+
+    /**
+     * Returns the change that changed {@code applicant} in place, made after {@code previous}.
+     */
+    static ApplicantListChange ofModify(Applicant applicant, ApplicantListChange previous) {
+        return new ApplicantListChange(Kind.MODIFY, null, List.of(applicant), previous, false);
+    }
+
+    /**
+     * Returns the change that replaced the whole list, made after {@code previous}.
+     */
+    static ApplicantListChange ofReset(ApplicantListChange previous) {
+        return new ApplicantListChange(Kind.RESET, null, List.of(), previous, false);
+    }
+
+    /**
+     * Returns the change that changed applicants of the list in place in a way that was not recorded.
+     * The change starts a new chain, as the list can no longer be told apart from an earlier one by comparing it.
+     */
+    static ApplicantListChange ofUnrecorded() {
+        return new ApplicantListChange(Kind.RESET, null, List.of(), null, false);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the applicant that was removed or replaced, or null if the change did not remove any.
+     */
+    public Applicant getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the applicants that were appended, the applicant that replaced another one, or the applicant that
+     * was changed in place, depending on the kind of change.
+     */
+    public List<Applicant> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the change made before this one, or null if this change starts the chain.
+     */
+    public ApplicantListChange getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Returns true if this is the change that the list started with, so that no change was made before it.
+     */
+    public boolean isFirstOfList() {
+        return isFirstOfList;
+    }
+}
@@ -0,0 +1,212 @@
+package seedu.address.model.applicant;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index over the searchable fields of the applicants in a {@code UniqueApplicantList}.
+ * <p>
+ * Each of name, email, phone, job position and status maps its lower-cased value to the applicants that have it,
+ * and the added time is kept in a sorted map for the date range predicates. A list of
+ * {@code IdentifierPredicate}s is then answered by combining the matching sets instead of testing every applicant.
+ * <p>
+ * Applicants are compared by identity, since the profile picture path of an applicant can change in place.
+ * Each applicant also gets an increasing sequence number when it is indexed, which tells the predicates
+ * from {@link #createPredicate(List, boolean)} whether an applicant was already there when they were created.
+ */
+class ApplicantSearchIndex {
+
+    private final Map<String, Set<Applicant>> byName = new HashMap<>();
+    private final Map<String, Set<Applicant>> byEmail = new HashMap<>();
+    private final Map<String, Set<Applicant>> byPhone = new HashMap<>();
+    private final Map<String, Set<Applicant>> byJobPosition = new HashMap<>();
+    private final Map<String, Set<Applicant>> byStatus = new HashMap<>();
+    private final NavigableMap<LocalDateTime, Set<Applicant>> byAddedTime = new TreeMap<>();
+    // every indexed applicant, mapped to its sequence number
+    private final Map<Applicant, Long> all = new IdentityHashMap<>();
+    private long nextSequence = 0;
+
+    /**
+     * Adds {@code applicant} to the index.
+     */
+    void add(Applicant applicant) {
+        all.put(applicant, nextSequence++);
+        addPosting(byName, normalize(applicant.getName().fullName), applicant);
+        addPosting(byEmail, normalize(applicant.getEmail().value), applicant);
+        addPosting(byPhone, normalize(applicant.getPhone().value), applicant);
+        addPosting(byJobPosition, normalize(applicant.getJobPosition().jobPosition), applicant);
+        addPosting(byStatus, normalize(applicant.getStatus().value), applicant);
+        addPosting(byAddedTime, applicant.getAddedTime(), applicant);
+    }
+
+    /**
+     * Removes {@code applicant} from the index.
+     */
+    void remove(Applicant applicant) {
+        all.remove(applicant);
+        removePosting(byName, normalize(applicant.getName().fullName), applicant);
+        removePosting(byEmail, normalize(applicant.getEmail().value), applicant);
+        removePosting(byPhone, normalize(applicant.getPhone().value), applicant);
+        removePosting(byJobPosition, normalize(applicant.getJobPosition().jobPosition), applicant);
+        removePosting(byStatus, normalize(applicant.getStatus().value), applicant);
+        removePosting(byAddedTime, applicant.getAddedTime(), applicant);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code applicants}.
+     */
+    void setAll(Collection<Applicant> applicants) {
+        all.clear();
+        byName.clear();
+        byEmail.clear();
+        byPhone.clear();
+        byJobPosition.clear();
+        byStatus.clear();
+        byAddedTime.clear();
+        applicants.forEach(this::add);
+    }
+
+    /**
+     * Returns the applicants that satisfy all of {@code predicates} if {@code isMatchAll} is true,
+     * or at least one of them otherwise. The returned set compares applicants by identity.
+     */
+    Set<Applicant> find(List<? extends IdentifierPredicate> predicates, boolean isMatchAll) {
+        Set<Applicant> result = newApplicantSet();
+        if (predicates.isEmpty()) {
+            if (isMatchAll) {
+                result.addAll(all.keySet());
+            }
+            return result;
+        }
+
+        if (!isMatchAll) {
+            for (IdentifierPredicate predicate : predicates) {
+                result.addAll(find(predicate));
+            }
+            return result;
+        }
+
+        // intersect starting from the smallest set, so that the work is bounded by the most selective predicate
+        Collection<Applicant> smallest = null;
+        for (IdentifierPredicate predicate : predicates) {
+            Collection<Applicant> matches = find(predicate);
+            if (smallest == null || matches.size() < smallest.size()) {
+                smallest = matches;
+            }
+        }
+        Predicate<Applicant> matchesAll = IdentifierPredicate.combine(predicates, true);
+        for (Applicant candidate : smallest) {
+            if (matchesAll.test(candidate)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a predicate that is equivalent to combining {@code predicates} as in {@link #find(List, boolean)}.
+     * Applicants that are in the index now are tested by looking them up in the result of the search,
+     * applicants added later are tested against {@code predicates} directly.
+     */
+    Predicate<Applicant> createPredicate(List<? extends IdentifierPredicate> predicates, boolean isMatchAll) {
+        Predicate<Applicant> combined = IdentifierPredicate.combine(predicates, isMatchAll);
+        Set<Applicant> matches = find(predicates, isMatchAll);
+        long sequenceAtSearch = nextSequence;
+
+        return applicant -> {
+            Long sequence = all.get(applicant);
+            if (sequence != null && sequence < sequenceAtSearch) {
+                return matches.contains(applicant);
+            }
+            return combined.test(applicant);
+        };
+    }
+
+    /**
+     * Returns the applicants that satisfy {@code predicate}.
+     * Predicates that cannot be answered from the index are tested against every applicant.
+     */
+    private Collection<Applicant> find(IdentifierPredicate predicate) {
+        if (predicate instanceof NameMatchesKeywordPredicate) {
+            return findKeyword(byName, predicate);
+        } else if (predicate instanceof EmailMatchesKeywordPredicate) {
+            return findKeyword(byEmail, predicate);
+        } else if (predicate instanceof PhoneMatchesKeywordPredicate) {
+            return findKeyword(byPhone, predicate);
+        } else if (predicate instanceof JobPositionMatchesPredicate) {
+            return findKeyword(byJobPosition, predicate);
+        } else if (predicate instanceof StatusMatchesPredicate) {
+            return findKeyword(byStatus, predicate);
+        } else if (predicate instanceof BeforeDatePredicate beforeDatePredicate) {
+            return flatten(byAddedTime.headMap(beforeDatePredicate.getBeforeDate(), false).values());
+        } else if (predicate instanceof AfterDatePredicate afterDatePredicate) {
+            return flatten(byAddedTime.tailMap(afterDatePredicate.getAfterDate(), false).values());
+        }
+
+        Set<Applicant> matches = newApplicantSet();
+        for (Applicant applicant : all.keySet()) {
+            if (predicate.test(applicant)) {
+                matches.add(applicant);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the applicants in {@code postings} whose value equals the keyword of {@code predicate}, ignoring case.
+     */
+    private static Collection<Applicant> findKeyword(Map<String, Set<Applicant>> postings,
+                                                     IdentifierPredicate predicate) {
+        Set<Applicant> matches = postings.get(normalize(predicate.getKeyword()));
+        if (matches == null) {
+            return Collections.emptySet();
+        }
+        // the lower-cased key only narrows the candidates down, the predicate has the final say on case folding
+        Set<Applicant> confirmed = newApplicantSet();
+        for (Applicant applicant : matches) {
+            if (predicate.test(applicant)) {
+                confirmed.add(applicant);
+            }
+        }
+        return confirmed;
+    }
+
+    private static Collection<Applicant> flatten(Collection<Set<Applicant>> postingLists) {
+        Set<Applicant> matches = newApplicantSet();
+        postingLists.forEach(matches::addAll);
+        return matches;
+    }
+
+    private static <K> void addPosting(Map<K, Set<Applicant>> postings, K key, Applicant applicant) {
+        postings.computeIfAbsent(key, unused -> newApplicantSet()).add(applicant);
+    }
+
+    private static <K> void removePosting(Map<K, Set<Applicant>> postings, K key, Applicant applicant) {
+        Set<Applicant> postingList = postings.get(key);
+        if (postingList == null) {
+            return;
+        }
+        postingList.remove(applicant);
+        if (postingList.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<Applicant> newApplicantSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -19,6 +19,10 @@ public class BeforeDatePredicate extends IdentifierPredicate {
         this.beforeDate = beforeDate;
     }
 
+    public LocalDateTime getBeforeDate() {
+        return beforeDate;
+    }
+
     @Override
     public boolean test(Applicant applicant) {
         return applicant.getAddedTime().isBefore(beforeDate);
@@ -3,6 +3,8 @@ package seedu.address.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents an applicant's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -30,8 +32,11 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final String DOMAIN_LABEL_SEPARATORS = "-";
 
     public final String value;
+    // computed the first time it is sorted by, see getSortKey()
+    private String sortKey;
 
     /**
      * Constructs an {@code Email}.
@@ -47,9 +52,74 @@ public class Email {
 
     /**
      * Returns if a given string is a valid email.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, but scans the string once instead of backtracking.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        if (at < 0) {
+            return false;
+        }
+
+        if (!isAlphanumericSeparatedBy(test, 0, at, SPECIAL_CHARACTERS)) {
+            return false;
+        }
+        int labelStart = at + 1;
+        int labelEnd = test.indexOf('.', labelStart);
+        while (labelEnd >= 0) {
+            if (!isAlphanumericSeparatedBy(test, labelStart, labelEnd, DOMAIN_LABEL_SEPARATORS)) {
+                return false;
+            }
+            labelStart = labelEnd + 1;
+            labelEnd = test.indexOf('.', labelStart);
+        }
+        return isAlphanumericSeparatedBy(test, labelStart, test.length(), DOMAIN_LABEL_SEPARATORS)
+                && hasAdjacentAlphanumerics(test, labelStart, test.length());
+    }
+
+    /**
+     * Returns true if {@code test[start, end)} is a run of alphanumeric characters, or runs of them separated by
+     * single characters of {@code separators}.
+     */
+    private static boolean isAlphanumericSeparatedBy(String test, int start, int end, String separators) {
+        // starts as if after a separator, as the first character must be alphanumeric
+        boolean isAfterSeparator = true;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isAlphanumeric(c)) {
+                isAfterSeparator = false;
+            } else if (!isAfterSeparator && separators.indexOf(c) >= 0) {
+                isAfterSeparator = true;
+            } else {
+                return false;
+            }
+        }
+        return !isAfterSeparator;
+    }
+
+    /**
+     * Returns true if {@code test[start, end)} has two alphanumeric characters next to each other, which makes a
+     * domain label match {@link #DOMAIN_LAST_PART_REGEX}.
+     */
+    private static boolean hasAdjacentAlphanumerics(String test, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            if (StringUtil.isAlphanumeric(test.charAt(i - 1)) && StringUtil.isAlphanumeric(test.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the key that emails are sorted by, see {@link StringUtil#toSortKey(String)}.
+     */
+    public String getSortKey() {
+        String key = sortKey;
+        if (key == null) {
+            // a race only computes the same key twice
+            key = StringUtil.toSortKey(value);
+            sortKey = key;
+        }
+        return key;
     }
 
     @Override
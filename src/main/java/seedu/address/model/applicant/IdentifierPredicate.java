@@ -1,5 +1,6 @@
 package seedu.address.model.applicant;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 /**
@@ -13,6 +14,37 @@ public abstract class IdentifierPredicate implements Predicate<Applicant> {
         this.keyword = keyword;
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     public abstract boolean test(Applicant applicant);
 
+    /**
+     * Fuses {@code predicates} into a single predicate that is satisfied when all of them are if {@code isMatchAll}
+     * is true, or when at least one of them is otherwise.
+     * The predicates are copied into an array once, so testing an applicant does not allocate.
+     */
+    public static Predicate<Applicant> combine(List<? extends IdentifierPredicate> predicates, boolean isMatchAll) {
+        IdentifierPredicate[] fused = predicates.toArray(new IdentifierPredicate[0]);
+        if (isMatchAll) {
+            return applicant -> {
+                for (IdentifierPredicate predicate : fused) {
+                    if (!predicate.test(applicant)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+        return applicant -> {
+            for (IdentifierPredicate predicate : fused) {
+                if (predicate.test(applicant)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
 }
@@ -3,6 +3,9 @@ package seedu.address.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents an applicant's applying JobPosition.
  * Guarantees: immutable; is valid as declared in {@link #isValidJobPosition(String)}
@@ -17,7 +20,11 @@ public class JobPosition {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final WeakInterner<JobPosition> INSTANCES = new WeakInterner<>(JobPosition::new);
+
     public final String jobPosition;
+    // computed the first time it is sorted by, see getSortKey()
+    private String sortKey;
 
 
     /**
@@ -31,11 +38,34 @@ public class JobPosition {
         this.jobPosition = jobPosition;
     }
 
+    /**
+     * Returns the {@code JobPosition} with the given job position, which is shared by every applicant that has it.
+     *
+     * @param jobPosition A valid job position.
+     */
+    public static JobPosition of(String jobPosition) {
+        return INSTANCES.intern(jobPosition);
+    }
+
     /**
      * Returns true if a given string is a valid Job Position.
+     * Equivalent to matching {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidJobPosition(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumericWithSpaces(test);
+    }
+
+    /**
+     * Returns the key that job positions are sorted by, see {@link StringUtil#toSortKey(String)}.
+     */
+    public String getSortKey() {
+        String key = sortKey;
+        if (key == null) {
+            // a race only computes the same key twice
+            key = StringUtil.toSortKey(jobPosition);
+            sortKey = key;
+        }
+        return key;
     }
 
     @Override
@@ -0,0 +1,127 @@
+package seedu.address.model.applicant;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * The observable list behind a {@code UniqueApplicantList}.
+ * <p>
+ * The list either holds its applicants, or reads them from a source list that creates them as they are read,
+ * see {@link #setAllLazily(List)}. Reading the list leaves the source in place, so that only the applicants that
+ * are looked at are ever created. The first change to the list copies every applicant out of the source.
+ */
+class MaterializingApplicantList extends ModifiableObservableListBase<Applicant> {
+
+    // the applicants of the list, or null while they are read from lazySource
+    private ArrayList<Applicant> applicants = new ArrayList<>();
+    private List<Applicant> lazySource = null;
+
+    /**
+     * Replaces the contents of this list with {@code source}, which is read as the list is read.
+     * {@code source} must not change while it is the source of this list.
+     */
+    void setAllLazily(List<Applicant> source) {
+        replaceContents(null, source);
+    }
+
+    /**
+     * Returns true if every applicant of this list has been created, that is, the list has no lazy source.
+     */
+    boolean isMaterialized() {
+        return lazySource == null;
+    }
+
+    /**
+     * Returns the source that the applicants of this list are read from, or null if the list is materialized.
+     */
+    List<Applicant> getLazySource() {
+        return lazySource;
+    }
+
+    /**
+     * Copies every applicant out of the lazy source, if there is one.
+     * The contents of the list do not change, so no listener is notified.
+     */
+    void materialize() {
+        if (lazySource == null) {
+            return;
+        }
+        materialize(new ArrayList<>(lazySource));
+    }
+
+    /**
+     * Makes {@code copy}, a copy of every applicant of the lazy source, the contents of the list in place of the
+     * lazy source. The contents of the list do not change, so no listener is notified.
+     */
+    void materialize(ArrayList<Applicant> copy) {
+        assert lazySource != null && copy.size() == lazySource.size();
+        applicants = copy;
+        lazySource = null;
+    }
+
+    @Override
+    public Applicant get(int index) {
+        return lazySource == null ? applicants.get(index) : lazySource.get(index);
+    }
+
+    @Override
+    public int size() {
+        return lazySource == null ? applicants.size() : lazySource.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Applicant element) {
+        materialize();
+        applicants.add(index, element);
+    }
+
+    @Override
+    protected Applicant doSet(int index, Applicant element) {
+        materialize();
+        return applicants.set(index, element);
+    }
+
+    @Override
+    protected Applicant doRemove(int index) {
+        materialize();
+        return applicants.remove(index);
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends Applicant> col) {
+        replaceContents(new ArrayList<>(col), null);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        replaceContents(new ArrayList<>(), null);
+    }
+
+    /**
+     * Replaces the contents of the list at once, instead of removing and adding one applicant at a time.
+     * Exactly one of {@code newApplicants} and {@code newLazySource} is not null.
+     */
+    private void replaceContents(ArrayList<Applicant> newApplicants, List<Applicant> newLazySource) {
+        List<Applicant> removed = lazySource == null ? applicants : lazySource;
+        applicants = newApplicants;
+        lazySource = newLazySource;
+        modCount++;
+
+        beginChange();
+        try {
+            if (!removed.isEmpty()) {
+                nextRemove(0, Collections.unmodifiableList(removed));
+            }
+            if (size() > 0) {
+                nextAdd(0, size());
+            }
+        } finally {
+            endChange();
+        }
+    }
+}
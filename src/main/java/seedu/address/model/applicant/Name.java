@@ -3,6 +3,8 @@ package seedu.address.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents an applicant's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +21,8 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    // computed the first time it is sorted by, see getSortKey()
+    private String sortKey;
 
     /**
      * Constructs a {@code Name}.
@@ -33,11 +37,24 @@ public class Name {
 
     /**
      * Returns true if a given string is a valid name.
+     * Equivalent to matching {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumericWithSpaces(test);
     }
 
+    /**
+     * Returns the key that names are sorted by, see {@link StringUtil#toSortKey(String)}.
+     */
+    public String getSortKey() {
+        String key = sortKey;
+        if (key == null) {
+            // a race only computes the same key twice
+            key = StringUtil.toSortKey(fullName);
+            sortKey = key;
+        }
+        return key;
+    }
 
     @Override
     public String toString() {
@@ -22,8 +22,13 @@ public class NameContainsKeywordsPredicate implements Predicate<Applicant> {
 
     @Override
     public boolean test(Applicant applicant) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(applicant.getName().fullName, keyword));
+        String fullName = applicant.getName().fullName;
+        for (String keyword : keywords) {
+            if (StringUtil.containsWordIgnoreCase(fullName, keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
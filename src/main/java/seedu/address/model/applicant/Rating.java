@@ -3,10 +3,13 @@ package seedu.address.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Comparator;
+
 /**
  * Represents an Applicant's rating
  * Has value of an integer in range 1 to 5, unless not assigned yet (represented by value of -1)
  * Guarantees: immutable; has integer in range 1 to 5, or -1, as value
+ * The rating is kept as a byte score, and {@link #of(String)} returns one of six shared instances.
  */
 public class Rating {
     public static final String MESSAGE_CONSTRAINTS =
@@ -18,7 +21,28 @@ public class Rating {
      */
     public static final String VALIDATION_REGEX = "^[1-5]$|^-1$";
 
+    /** The score of an unassigned rating. */
+    public static final byte UNASSIGNED_SCORE = -1;
+    public static final byte MIN_SCORE = 1;
+    public static final byte MAX_SCORE = 5;
+
+    /** Orders ratings from lowest to highest, with unassigned ratings last. */
+    public static final Comparator<Rating> ASCENDING_ORDER = (first, second) -> first.compareTo(second, true);
+    /** Orders ratings from highest to lowest, with unassigned ratings last. */
+    public static final Comparator<Rating> DESCENDING_ORDER = (first, second) -> first.compareTo(second, false);
+
+    // the only instances returned by of(...), index 0 is unassigned and index i is a score of i
+    private static final Rating[] RATINGS = new Rating[MAX_SCORE + 1];
+
+    static {
+        RATINGS[0] = new Rating(String.valueOf(UNASSIGNED_SCORE));
+        for (int score = MIN_SCORE; score <= MAX_SCORE; score++) {
+            RATINGS[score] = new Rating(String.valueOf(score));
+        }
+    }
+
     public final String value;
+    private final byte score;
 
     /**
      * Constructs a {@code Rating}.
@@ -29,26 +53,74 @@ public class Rating {
         requireNonNull(value);
         checkArgument(isValidRating(value), MESSAGE_CONSTRAINTS);
         this.value = value;
+        this.score = Byte.parseByte(value);
+    }
+
+    /**
+     * Returns the {@code Rating} with the given rating, which is shared by every applicant that has it.
+     *
+     * @param value A valid rating.
+     */
+    public static Rating of(String value) {
+        requireNonNull(value);
+        checkArgument(isValidRating(value), MESSAGE_CONSTRAINTS);
+        return of(Byte.parseByte(value));
+    }
+
+    /**
+     * Returns the {@code Rating} with the given score, which is shared by every applicant that has it.
+     *
+     * @param score {@link #UNASSIGNED_SCORE}, or a score from {@link #MIN_SCORE} to {@link #MAX_SCORE}.
+     */
+    public static Rating of(byte score) {
+        checkArgument(isValidScore(score), MESSAGE_CONSTRAINTS);
+        return RATINGS[score == UNASSIGNED_SCORE ? 0 : score];
     }
 
     /**
      * Returns true if a given string is a valid rating.
+     * Equivalent to matching {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidRating(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() == 1) {
+            char digit = test.charAt(0);
+            return digit >= '0' + MIN_SCORE && digit <= '0' + MAX_SCORE;
+        }
+        return test.equals("-1");
+    }
+
+    /**
+     * Returns true if a given score is a valid rating.
+     */
+    public static boolean isValidScore(byte score) {
+        return score == UNASSIGNED_SCORE || (score >= MIN_SCORE && score <= MAX_SCORE);
+    }
+
+    public byte getScore() {
+        return score;
+    }
+
+    public boolean isAssigned() {
+        return score != UNASSIGNED_SCORE;
     }
 
     /**
      * Compares this rating, ratings with value -1 are treated as lowest and always placed last.
      */
     public int compareTo(Rating otherRating, boolean isAscending) {
-        int thisValue = Integer.parseInt(this.value);
-        int otherValue = Integer.parseInt(otherRating.value);
-        if (thisValue == -1 || otherValue == -1) {
-            return thisValue == otherValue ? 0 : (thisValue == -1 ? 1 : -1);
+        return Integer.compare(getSortKey(isAscending), otherRating.getSortKey(isAscending));
+    }
+
+    /**
+     * Returns a key that orders ratings in the given direction, with unassigned ratings last.
+     */
+    private int getSortKey(boolean isAscending) {
+        if (score == UNASSIGNED_SCORE) {
+            return Integer.MAX_VALUE;
         }
-        return isAscending ? Integer.compare(thisValue, otherValue) : Integer.compare(otherValue, thisValue);
+        return isAscending ? score : -score;
     }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -60,19 +132,19 @@ public class Rating {
             return false;
         }
 
-        return this.value.equals(otherRating.value);
+        return score == otherRating.score;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Byte.hashCode(score);
     }
 
     /**
      * Format state as text for viewing.
      */
     public String toString() {
-        if (value.equals("-1")) {
+        if (!isAssigned()) {
             return "Unassigned";
         }
         return value + " / 5";
@@ -0,0 +1,53 @@
+package seedu.address.model.applicant;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.parser.Prefix;
+
+/**
+ * One of the keys that applicants are sorted by: the field given by its prefix, in ascending or descending order.
+ * Guarantees: immutable.
+ */
+public class SortCriterion {
+
+    public final Prefix prefix;
+    public final boolean isAscendingOrder;
+
+    /**
+     * Constructs a {@code SortCriterion} that sorts by the field of {@code prefix}.
+     */
+    public SortCriterion(Prefix prefix, boolean isAscendingOrder) {
+        requireNonNull(prefix);
+        this.prefix = prefix;
+        this.isAscendingOrder = isAscendingOrder;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCriterion)) {
+            return false;
+        }
+
+        SortCriterion otherCriterion = (SortCriterion) other;
+        return prefix.equals(otherCriterion.prefix) && isAscendingOrder == otherCriterion.isAscendingOrder;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * prefix.hashCode() + Boolean.hashCode(isAscendingOrder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("prefix", prefix)
+                .add("isAscendingOrder", isAscendingOrder)
+                .toString();
+    }
+}
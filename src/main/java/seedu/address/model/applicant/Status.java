@@ -3,6 +3,9 @@ package seedu.address.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents an Applicant's application status
  * Guarantees: immutable; is valid as declared in {@link #isValidStatus(String)}
@@ -17,7 +20,11 @@ public class Status {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final WeakInterner<Status> INSTANCES = new WeakInterner<>(Status::new);
+
     public final String value;
+    // computed the first time it is sorted by, see getSortKey()
+    private String sortKey;
 
     /**
      * Constructs a {@code Status}.
@@ -30,11 +37,34 @@ public class Status {
         this.value = value;
     }
 
+    /**
+     * Returns the {@code Status} with the given status, which is shared by every applicant that has it.
+     *
+     * @param value A valid status.
+     */
+    public static Status of(String value) {
+        return INSTANCES.intern(value);
+    }
+
     /**
      * Returns true if a given string is a valid status.
+     * Equivalent to matching {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidStatus(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumericWithSpaces(test);
+    }
+
+    /**
+     * Returns the key that statuses are sorted by, see {@link StringUtil#toSortKey(String)}.
+     */
+    public String getSortKey() {
+        String key = sortKey;
+        if (key == null) {
+            // a race only computes the same key twice
+            key = StringUtil.toSortKey(value);
+            sortKey = key;
+        }
+        return key;
     }
 
     @Override
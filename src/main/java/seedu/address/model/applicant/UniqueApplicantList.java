@@ -2,20 +2,17 @@ package seedu.address.model.applicant;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_TIME;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_POSITION;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
-
-import java.util.Comparator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.logic.parser.Prefix;
 import seedu.address.model.applicant.exceptions.DuplicatePersonException;
 import seedu.address.model.applicant.exceptions.PersonNotFoundException;
 
@@ -29,22 +26,59 @@ import seedu.address.model.applicant.exceptions.PersonNotFoundException;
  * However, the removal of an applicant uses {@code Applicant#equals(Object)} so as to ensure that
  * the applicant with exactly the same fields will be removed.
  *
+ * Identity checks are answered from hash indexes on {@code Email} and {@code Phone}, which are kept in sync
+ * with every mutation of the list, so that they run in constant time regardless of the size of the list.
+ *
+ * Searches by {@code IdentifierPredicate} are answered from an {@code ApplicantSearchIndex} that is kept in sync
+ * the same way, see {@link #createSearchPredicate(List, boolean)}.
+ *
+ * The list can also be read from a source that creates applicants as they are read, see
+ * {@link #setPersonsLazily(List)}. It is then only copied and indexed when it is first searched or changed.
+ *
+ * Every change to the list, or to an applicant in it, increases the modification version of the list,
+ * so that callers can tell whether the list changed without comparing its contents. The change is also recorded
+ * as the latest {@code ApplicantListChange}, so that callers can tell what changed in the same way.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Applicant#isSamePerson(Applicant)
  */
 public class UniqueApplicantList implements Iterable<Applicant> {
 
-    private final ObservableList<Applicant> internalList = FXCollections.observableArrayList();
+    private final MaterializingApplicantList internalList = new MaterializingApplicantList();
     private final ObservableList<Applicant> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Identity indexes, each email and phone number maps to the applicant in the list that owns it
+    private final Map<Email, Applicant> emailIndex = new HashMap<>();
+    private final Map<Phone, Applicant> phoneIndex = new HashMap<>();
+    private final ApplicantSearchIndex searchIndex = new ApplicantSearchIndex();
+
+    private long modificationVersion = 0;
+    private ApplicantListChange latestChange = ApplicantListChange.ofNewList();
+    // removed applicants whose profile pictures are kept until deletions are applied, or null if none are deferred
+    private List<Applicant> deferredProfilePicDeletions = null;
+
     /**
      * Returns true if the list contains an equivalent applicant as the given argument.
      */
     public boolean contains(Applicant toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        ensureMaterialized();
+        return emailIndex.containsKey(toCheck.getEmail()) || phoneIndex.containsKey(toCheck.getPhone());
+    }
+
+    /**
+     * Returns a predicate that matches the applicants that satisfy all of {@code predicates} if {@code isMatchAll}
+     * is true, or at least one of them otherwise. With no predicates, every applicant satisfies all of them and
+     * none satisfies any of them.
+     * The search is answered from the search index once, so testing an applicant that is in the list is a lookup.
+     */
+    public Predicate<Applicant> createSearchPredicate(List<? extends IdentifierPredicate> predicates,
+                                                      boolean isMatchAll) {
+        requireNonNull(predicates);
+        ensureMaterialized();
+        return searchIndex.createPredicate(predicates, isMatchAll);
     }
 
     /**
@@ -57,6 +91,35 @@ public class UniqueApplicantList implements Iterable<Applicant> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        addToIndexes(toAdd);
+        recordChange(ApplicantListChange.ofAdd(List.of(toAdd), latestChange));
+    }
+
+    /**
+     * Adds {@code applicants} to the end of the list as a single change.
+     * None of them may already exist in the list, and they must not be duplicates of each other.
+     */
+    public void addAll(List<Applicant> applicants) {
+        requireAllNonNull(applicants);
+        ensureMaterialized();
+
+        Map<Email, Applicant> newEmailIndex = new HashMap<>();
+        Map<Phone, Applicant> newPhoneIndex = new HashMap<>();
+        for (Applicant applicant : applicants) {
+            if (contains(applicant)
+                    || newEmailIndex.putIfAbsent(applicant.getEmail(), applicant) != null
+                    || newPhoneIndex.putIfAbsent(applicant.getPhone(), applicant) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        internalList.addAll(applicants);
+        emailIndex.putAll(newEmailIndex);
+        phoneIndex.putAll(newPhoneIndex);
+        for (Applicant applicant : applicants) {
+            searchIndex.add(applicant);
+        }
+        recordChange(ApplicantListChange.ofAdd(applicants, latestChange));
     }
 
     /**
@@ -66,20 +129,25 @@ public class UniqueApplicantList implements Iterable<Applicant> {
      */
     public void setPerson(Applicant target, Applicant editedApplicant) {
         requireAllNonNull(target, editedApplicant);
+        ensureMaterialized();
 
         int index = internalList.indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        internalList.set(index, Applicant.NULL_APPLICANT);
+        // the target's own email and phone must not count as duplicates of the edited applicant
+        Applicant existingTarget = internalList.get(index);
+        removeFromIndexes(existingTarget);
 
         if (contains(editedApplicant)) {
-            internalList.set(index, target);
+            addToIndexes(existingTarget);
             throw new DuplicatePersonException();
         }
 
         internalList.set(index, editedApplicant);
+        addToIndexes(editedApplicant);
+        recordChange(ApplicantListChange.ofSet(existingTarget, editedApplicant, latestChange));
     }
 
     /**
@@ -88,27 +156,64 @@ public class UniqueApplicantList implements Iterable<Applicant> {
      */
     public void remove(Applicant toRemove) {
         requireNonNull(toRemove);
+        ensureMaterialized();
 
         // Before removing from the list, delete the profile picture in the folder
-        toRemove.deleteProfilePic();
+        deleteProfilePic(toRemove);
 
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        // the search index holds the applicant in the list itself, which may be a different but equal object
+        Applicant removed = internalList.remove(index);
+        removeFromIndexes(removed);
+        recordChange(ApplicantListChange.ofRemove(removed, latestChange));
     }
 
     /**
      * Deletes all applicant's profile picture.
      */
     public void removeAllProfilePicture() {
+        ensureMaterialized();
         for (Applicant applicant : internalList) {
-            applicant.deleteProfilePic();
+            deleteProfilePic(applicant);
+        }
+        recordChange(ApplicantListChange.ofUnrecorded());
+    }
+
+    /**
+     * Keeps the profile pictures of the applicants that are removed from now on, along with the picture paths of
+     * those applicants, until {@link #applyDeferredProfilePictureDeletions(boolean)} is called.
+     */
+    public void deferProfilePictureDeletions() {
+        if (deferredProfilePicDeletions == null) {
+            deferredProfilePicDeletions = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Deletes the profile pictures kept since {@link #deferProfilePictureDeletions()} if {@code isCommitted},
+     * or leaves them in place otherwise. Profile pictures are deleted at once again from then on.
+     */
+    public void applyDeferredProfilePictureDeletions(boolean isCommitted) {
+        List<Applicant> deferred = deferredProfilePicDeletions;
+        deferredProfilePicDeletions = null;
+        if (deferred != null && isCommitted) {
+            deferred.forEach(Applicant::deleteProfilePic);
         }
     }
 
     public void setPersons(UniqueApplicantList replacement) {
         requireNonNull(replacement);
+        replacement.ensureMaterialized();
         internalList.setAll(replacement.internalList);
+        emailIndex.clear();
+        emailIndex.putAll(replacement.emailIndex);
+        phoneIndex.clear();
+        phoneIndex.putAll(replacement.phoneIndex);
+        searchIndex.setAll(internalList);
+        recordChange(ApplicantListChange.ofReset(latestChange));
     }
 
     /**
@@ -117,120 +222,83 @@ public class UniqueApplicantList implements Iterable<Applicant> {
      */
     public void setPersons(List<Applicant> applicants) {
         requireAllNonNull(applicants);
-        if (!personsAreUnique(applicants)) {
-            throw new DuplicatePersonException();
+
+        Map<Email, Applicant> newEmailIndex = new HashMap<>();
+        Map<Phone, Applicant> newPhoneIndex = new HashMap<>();
+        for (Applicant applicant : applicants) {
+            if (newEmailIndex.putIfAbsent(applicant.getEmail(), applicant) != null
+                    || newPhoneIndex.putIfAbsent(applicant.getPhone(), applicant) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
         internalList.setAll(applicants);
+        emailIndex.clear();
+        emailIndex.putAll(newEmailIndex);
+        phoneIndex.clear();
+        phoneIndex.putAll(newPhoneIndex);
+        searchIndex.setAll(internalList);
+        recordChange(ApplicantListChange.ofReset(latestChange));
+    }
+
+    /**
+     * Replaces the contents of this list with {@code applicants}, without reading them.
+     * {@code applicants} must not contain duplicate applicants, and must not change afterwards.
+     * Applicants are then only read from {@code applicants} as the list is read, until the list is first searched
+     * or changed, at which point they are all copied into the list and indexed.
+     */
+    public void setPersonsLazily(List<Applicant> applicants) {
+        requireNonNull(applicants);
+
+        internalList.setAllLazily(applicants);
+        emailIndex.clear();
+        phoneIndex.clear();
+        searchIndex.setAll(List.of());
+        recordChange(ApplicantListChange.ofReset(latestChange));
     }
 
     /**
-     * Sorts the list of persons based on the given prefix in ascending order.
-     * The sorting works as follows:
-     * - If sorting by name, email, job position, status or rating, the list is sorted in
-     *   lexicographic order with case sensitivity (0, 1, ..., 9, A, a, B, b, ..., Z, z).
-     * - If sorting by added time, the list is sorted in chronological order,
-     *   with the earliest added applicant appearing first.
-     * - If the prefix is not recognized, the list remains unchanged.
-     *
-     * @param prefix The prefix that determines how the list should be sorted.
+     * Returns the list set by {@link #setPersonsLazily(List)} if its applicants have not been copied into this list
+     * yet, or an empty {@code Optional} otherwise.
      */
-    public void sortPersonsByAscendingOrder(Prefix prefix) {
-        // sort String based on lexicographic order with case sensitivity (A, a, B, b, ..., Z, z)
-        Comparator<String> caseSensitiveLexicographicComparator = (s1, s2) -> {
-            for (int i = 0; i < Math.min(s1.length(), s2.length()); i++) {
-                char c1 = s1.charAt(i);
-                char c2 = s2.charAt(i);
-
-                if (c1 != c2) {
-                    if (Character.toLowerCase(c1) == Character.toLowerCase(c2)) {
-                        return Character.compare(c1, c2);
-                    }
-                    return Character.compare(Character.toLowerCase(c1), Character.toLowerCase(c2));
-                }
+    public Optional<List<Applicant>> getLazySource() {
+        return Optional.ofNullable(internalList.getLazySource());
+    }
 
-            }
-            return Integer.compare(s1.length(), s2.length());
-        };
-
-        if (prefix.equals(PREFIX_NAME)) {
-            // sort by name
-            internalList.sort((p1, p2) -> caseSensitiveLexicographicComparator
-                    .compare(p1.getName().fullName, p2.getName().fullName));
-
-        } else if (prefix.equals(PREFIX_EMAIL)) {
-            // sort by email address
-            internalList.sort((p1, p2) -> caseSensitiveLexicographicComparator
-                    .compare(p1.getEmail().value, p2.getEmail().value));
-
-        } else if (prefix.equals(PREFIX_ADDED_TIME)) {
-            // sort by added time, first added appear at the top
-            internalList.sort((p1, p2) -> p1.getAddedTime().compareTo(p2.getAddedTime()));
-
-        } else if (prefix.equals(PREFIX_JOB_POSITION)) {
-            // sort by job position
-            internalList.sort((p1, p2) -> caseSensitiveLexicographicComparator
-                    .compare(p1.getJobPosition().jobPosition, p2.getJobPosition().jobPosition));
-
-        } else if (prefix.equals(PREFIX_STATUS)) {
-            // sort by status
-            internalList.sort((p1, p2) -> caseSensitiveLexicographicComparator
-                    .compare(p1.getStatus().value, p2.getStatus().value));
-
-        } else if (prefix.equals(PREFIX_RATING)) {
-            // sort by rating
-            internalList.sort((p1, p2) -> p1.getRating().compareTo(p2.getRating(), true));
-        } // ignore non-sorting prefix
+    /**
+     * Records a change made in place to the applicants in the list that is not known in detail,
+     * so that the whole list is treated as changed.
+     */
+    public void markModified() {
+        recordChange(ApplicantListChange.ofUnrecorded());
+    }
+
+    /**
+     * Records a change made in place to {@code applicant} in the list, such as a new profile picture.
+     */
+    public void markModified(Applicant applicant) {
+        requireNonNull(applicant);
+        ensureMaterialized();
+        if (emailIndex.get(applicant.getEmail()) == applicant) {
+            recordChange(ApplicantListChange.ofModify(applicant, latestChange));
+        } else {
+            // the applicant is not the one in the list, so it is not known which applicant of the list changed
+            markModified();
+        }
     }
+
     /**
-     * Similar to {@code sortPersonsByAscendingOrder} but sorts in descending order.
+     * Returns the modification version of the list, which increases with every change to the list.
      */
-    public void sortPersonsByDescendingOrder(Prefix prefix) {
-        // sort String based on lexicographic order with case sensitivity (A, a, B, b, ..., Z, z)
-        Comparator<String> caseSensitiveLexicographicComparator = (s1, s2) -> {
-            for (int i = 0; i < Math.min(s1.length(), s2.length()); i++) {
-                char c1 = s1.charAt(i);
-                char c2 = s2.charAt(i);
-
-                if (c1 != c2) {
-                    if (Character.toLowerCase(c1) == Character.toLowerCase(c2)) {
-                        return Character.compare(c1, c2);
-                    }
-                    return Character.compare(Character.toLowerCase(c1), Character.toLowerCase(c2));
-                }
+    public long getModificationVersion() {
+        return modificationVersion;
+    }
 
-            }
-            return Integer.compare(s1.length(), s2.length());
-        };
-
-        if (prefix.equals(PREFIX_NAME)) {
-            // sort by name
-            internalList.sort((p1, p2) -> caseSensitiveLexicographicComparator
-                    .compare(p2.getName().fullName, p1.getName().fullName));
-
-        } else if (prefix.equals(PREFIX_EMAIL)) {
-            // sort by email address
-            internalList.sort((p1, p2) -> caseSensitiveLexicographicComparator
-                    .compare(p2.getEmail().value, p1.getEmail().value));
-
-        } else if (prefix.equals(PREFIX_ADDED_TIME)) {
-            // sort by added time, first added appear at the top
-            internalList.sort((p1, p2) -> p2.getAddedTime().compareTo(p1.getAddedTime()));
-
-        } else if (prefix.equals(PREFIX_JOB_POSITION)) {
-            // sort by job position
-            internalList.sort((p1, p2) -> caseSensitiveLexicographicComparator
-                    .compare(p2.getJobPosition().jobPosition, p1.getJobPosition().jobPosition));
-
-        } else if (prefix.equals(PREFIX_STATUS)) {
-            // sort by status
-            internalList.sort((p1, p2) -> caseSensitiveLexicographicComparator
-                    .compare(p2.getStatus().value, p1.getStatus().value));
-
-        } else if (prefix.equals(PREFIX_RATING)) {
-            // sort by rating
-            internalList.sort((p1, p2) -> p1.getRating().compareTo(p2.getRating(), false));
-        } // ignore non-sorting prefix
+    /**
+     * Returns the latest change made to the list, which links to the changes made before it.
+     */
+    public ApplicantListChange getLatestChange() {
+        return latestChange;
     }
 
     /**
@@ -271,16 +339,63 @@ public class UniqueApplicantList implements Iterable<Applicant> {
     }
 
     /**
-     * Returns true if {@code applicants} contains only unique applicants.
+     * Makes {@code change} the latest change of the list, and increases the modification version.
+     */
+    private void recordChange(ApplicantListChange change) {
+        latestChange = change;
+        modificationVersion++;
+    }
+
+    /**
+     * Copies the applicants of a list set by {@link #setPersonsLazily(List)} into the list and indexes them.
      */
-    private boolean personsAreUnique(List<Applicant> applicants) {
-        for (int i = 0; i < applicants.size() - 1; i++) {
-            for (int j = i + 1; j < applicants.size(); j++) {
-                if (applicants.get(i).isSamePerson(applicants.get(j))) {
-                    return false;
-                }
+    private void ensureMaterialized() {
+        if (internalList.isMaterialized()) {
+            return;
+        }
+        // nothing is changed until every applicant is known to be unique, so a source with duplicates leaves the
+        // list read lazily, with empty indexes, rather than half indexed
+        ArrayList<Applicant> applicants = new ArrayList<>(internalList.getLazySource());
+        Map<Email, Applicant> newEmailIndex = new HashMap<>();
+        Map<Phone, Applicant> newPhoneIndex = new HashMap<>();
+        for (Applicant applicant : applicants) {
+            if (newEmailIndex.putIfAbsent(applicant.getEmail(), applicant) != null
+                    || newPhoneIndex.putIfAbsent(applicant.getPhone(), applicant) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        internalList.materialize(applicants);
+        emailIndex.putAll(newEmailIndex);
+        phoneIndex.putAll(newPhoneIndex);
+        searchIndex.setAll(applicants);
+    }
+
+    /**
+     * Deletes the profile picture of {@code applicant}, or keeps it for later if deletions are deferred.
+     */
+    private void deleteProfilePic(Applicant applicant) {
+        if (deferredProfilePicDeletions != null) {
+            deferredProfilePicDeletions.add(applicant);
+        } else {
+            applicant.deleteProfilePic();
+        }
+    }
+
+    /**
+     * Registers the email and phone number of {@code applicant} in the identity indexes.
+     */
+    private void addToIndexes(Applicant applicant) {
+        emailIndex.put(applicant.getEmail(), applicant);
+        phoneIndex.put(applicant.getPhone(), applicant);
+        searchIndex.add(applicant);
+    }
+
+    /**
+     * Removes the email and phone number of {@code applicant} from the identity indexes.
+     */
+    private void removeFromIndexes(Applicant applicant) {
+        emailIndex.remove(applicant.getEmail());
+        phoneIndex.remove(applicant.getPhone());
+        searchIndex.remove(applicant);
     }
 }
@@ -3,6 +3,9 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -17,6 +20,8 @@ public class Tag {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final WeakInterner<Tag> INSTANCES = new WeakInterner<>(Tag::new);
+
     public final String tagName;
 
     /**
@@ -30,11 +35,21 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the {@code Tag} with the given tag name, which is shared by every applicant that has it.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return INSTANCES.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
+     * Equivalent to matching {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumericWithSpaces(test);
     }
 
     @Override
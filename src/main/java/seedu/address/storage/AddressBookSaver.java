@@ -0,0 +1,180 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Writes snapshots of the address book to {@link AddressBookStorage} on a single writer.
+ * <p>
+ * Saving only hands the snapshot over to the writer. If several snapshots are handed over while the writer
+ * is busy, only the latest one is written, as it supersedes the others. A failed write is kept until it is
+ * collected with {@link #checkForFailure()}, so that callers can report it at a convenient time.
+ */
+public class AddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+
+    private final Object lock = new Object();
+    // The fields below are guarded by lock
+    private AddressBookStorage storage;
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isWriting;
+    private IOException failure;
+
+    /**
+     * Creates an {@code AddressBookSaver} that writes to {@code storage} using the given {@code executor}.
+     * The executor must not run two tasks of this saver at the same time.
+     */
+    public AddressBookSaver(AddressBookStorage storage, Executor executor) {
+        this(storage, executor, null);
+    }
+
+    private AddressBookSaver(AddressBookStorage storage, Executor executor, ExecutorService ownedExecutor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+        this.ownedExecutor = ownedExecutor;
+    }
+
+    /**
+     * Returns an {@code AddressBookSaver} that writes on the calling thread, before {@link #save} returns.
+     */
+    public static AddressBookSaver createSynchronousSaver(AddressBookStorage storage) {
+        return new AddressBookSaver(storage, Runnable::run);
+    }
+
+    /**
+     * Returns an {@code AddressBookSaver} that writes on a background thread of its own.
+     * The thread is released by {@link #close()}.
+     */
+    public static AddressBookSaver createBackgroundSaver(AddressBookStorage storage) {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new AddressBookSaver(storage, executor, executor);
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written to the storage.
+     * {@code snapshot} must not be modified afterwards.
+     */
+    public void save(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        synchronized (lock) {
+            pendingSnapshot = snapshot;
+            if (isWriting) {
+                // the running writer picks up the new snapshot once it is done with the current one
+                return;
+            }
+            isWriting = true;
+        }
+        executor.execute(this::writePendingSnapshots);
+    }
+
+    /**
+     * Writes the snapshots that are not being written yet to {@code storage} instead.
+     */
+    public void setStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        synchronized (lock) {
+            this.storage = storage;
+        }
+    }
+
+    /**
+     * Throws the failure of the last failed write, if it has not been thrown before.
+     */
+    public void checkForFailure() throws IOException {
+        IOException lastFailure;
+        synchronized (lock) {
+            lastFailure = failure;
+            failure = null;
+        }
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * Blocks until every scheduled snapshot has been written,
+     * then throws any failure as in {@link #checkForFailure()}.
+     */
+    public void flush() throws IOException {
+        synchronized (lock) {
+            while (isWriting) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for the address book to be saved", e);
+                }
+            }
+        }
+        checkForFailure();
+    }
+
+    /**
+     * Writes the scheduled snapshots and stops the background thread, if this saver owns one.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (ownedExecutor != null) {
+                ownedExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Writes the pending snapshot until there is none left.
+     */
+    private void writePendingSnapshots() {
+        while (true) {
+            ReadOnlyAddressBook snapshot;
+            AddressBookStorage targetStorage;
+            synchronized (lock) {
+                snapshot = pendingSnapshot;
+                targetStorage = storage;
+                pendingSnapshot = null;
+                if (snapshot == null) {
+                    isWriting = false;
+                    lock.notifyAll();
+                    return;
+                }
+            }
+
+            IOException writeFailure = null;
+            try {
+                targetStorage.saveAddressBook(snapshot);
+            } catch (IOException ioe) {
+                writeFailure = ioe;
+            } catch (RuntimeException e) {
+                writeFailure = new IOException(e.getMessage(), e);
+            }
+
+            if (writeFailure != null) {
+                logger.warning("Failed to save address book " + StringUtil.getDetails(writeFailure));
+            }
+            synchronized (lock) {
+                // a successful write supersedes the failure of an earlier one
+                failure = writeFailure;
+            }
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by a dictionary of the distinct
+ * job positions, statuses and tag names, the number of applicants, and one length-prefixed record per applicant.
+ * In a record, job positions, statuses and tags are indexes into the dictionary, the phone number is a
+ * variable-length integer, the added time is in epoch seconds and the rating is a single byte.
+ * Integers are unsigned LEB128 varints and strings are a varint byte length followed by UTF-8 bytes.
+ * <p>
+ * The file is read and written through a {@code FileChannel} with a direct buffer, a block at a time.
+ * Decoded applicants are validated exactly as the ones read from a json file are.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first four bytes of every binary address book file, "RTAB". */
+    static final int MAGIC = 0x52544142;
+    static final int FORMAT_VERSION = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // phone numbers with more digits than this do not fit in a long and are stored as strings
+    private static final int MAX_NUMERIC_PHONE_DIGITS = 18;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return Optional.of(new Decoder(channel).readAddressBook());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is written through a temporary file, so a crash never leaves a partial file behind.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFile(filePath, channel -> new Encoder(channel).writeAddressBook(addressBook));
+    }
+
+    /**
+     * Writes an address book to a channel in the binary format.
+     */
+    private static class Encoder {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final ByteArray record = new ByteArray();
+        private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+
+        Encoder(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            List<Applicant> applicants = addressBook.getPersonList();
+            for (Applicant applicant : applicants) {
+                addToDictionary(applicant.getJobPosition().jobPosition);
+                addToDictionary(applicant.getStatus().value);
+                for (Tag tag : applicant.getTags()) {
+                    addToDictionary(tag.tagName);
+                }
+            }
+
+            ByteArray header = new ByteArray();
+            header.putInt(MAGIC);
+            header.putVarLong(FORMAT_VERSION);
+            header.putVarLong(dictionary.size());
+            for (String entry : dictionary.keySet()) {
+                header.putString(entry);
+            }
+            header.putVarLong(applicants.size());
+            write(header);
+
+            ByteArray recordLength = new ByteArray();
+            for (Applicant applicant : applicants) {
+                record.clear();
+                encode(applicant);
+                recordLength.clear();
+                recordLength.putVarLong(record.size());
+                write(recordLength);
+                write(record);
+            }
+            flush();
+        }
+
+        private void addToDictionary(String entry) {
+            dictionary.putIfAbsent(entry, dictionary.size());
+        }
+
+        private void encode(Applicant applicant) {
+            record.putString(applicant.getName().fullName);
+            putPhone(applicant.getPhone().value);
+            record.putString(applicant.getEmail().value);
+            record.putVarLong(dictionary.get(applicant.getJobPosition().jobPosition));
+            record.putVarLong(dictionary.get(applicant.getStatus().value));
+            record.putString(applicant.getAddress().value);
+            LocalDateTime addedTime = applicant.getAddedTime();
+            record.putVarLong(zigZag(addedTime.toEpochSecond(ZoneOffset.UTC)));
+            record.putVarLong(addedTime.getNano());
+            record.putVarLong(applicant.getTags().size());
+            for (Tag tag : applicant.getTags()) {
+                record.putVarLong(dictionary.get(tag.tagName));
+            }
+            record.putByte(applicant.getRating().getScore());
+            putNullableString(applicant.getProfilePicturePath());
+        }
+
+        /**
+         * Writes the number of digits of {@code phone}, which keeps leading zeros, then its value.
+         */
+        private void putPhone(String phone) {
+            record.putVarLong(phone.length());
+            if (phone.length() <= MAX_NUMERIC_PHONE_DIGITS) {
+                record.putVarLong(Long.parseLong(phone));
+            } else {
+                record.putBytes(phone.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        private void putNullableString(String value) {
+            if (value == null) {
+                record.putByte((byte) 0);
+                return;
+            }
+            record.putByte((byte) 1);
+            record.putString(value);
+        }
+
+        private void write(ByteArray bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.size()) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int length = Math.min(buffer.remaining(), bytes.size() - offset);
+                buffer.put(bytes.array(), offset, length);
+                offset += length;
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private static long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format from a channel.
+     */
+    private static class Decoder {
+        private final FileChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private String[] dictionary;
+        private boolean isReadingRecord = false;
+
+        Decoder(FileChannel channel) {
+            this.channel = channel;
+            buffer.flip();
+        }
+
+        AddressBook readAddressBook() throws IOException, IllegalValueException {
+            ensureAvailable(Integer.BYTES);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a binary address book file");
+            }
+            long version = readVarLong();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported binary address book version " + version);
+            }
+
+            dictionary = new String[readCount()];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString();
+            }
+
+            int applicantCount = readCount();
+            AddressBook addressBook = new AddressBook();
+            List<JsonAdaptedApplicant> batch = new ArrayList<>(JsonAddressBookStream.BATCH_SIZE);
+            for (int i = 0; i < applicantCount; i++) {
+                batch.add(readRecord());
+                if (batch.size() == JsonAddressBookStream.BATCH_SIZE) {
+                    JsonSerializableAddressBook.addToAddressBook(batch, addressBook);
+                    batch.clear();
+                }
+            }
+            JsonSerializableAddressBook.addToAddressBook(batch, addressBook);
+            return addressBook;
+        }
+
+        /**
+         * Reads the next record into the same intermediate form that json files are read into,
+         * so that it is validated by {@link JsonAdaptedApplicant#toModelType()}.
+         */
+        private JsonAdaptedApplicant readRecord() throws IOException {
+            int recordLength = readCount();
+            ensureAvailable(recordLength);
+            int recordEnd = buffer.position() + recordLength;
+            int limit = buffer.limit();
+            // a corrupted record cannot be decoded past its own end
+            buffer.limit(recordEnd);
+            isReadingRecord = true;
+
+            String name = readString();
+            String phone = readPhone();
+            String email = readString();
+            String jobPosition = readDictionaryEntry();
+            String status = readDictionaryEntry();
+            String address = readString();
+            LocalDateTime addedTime = readAddedTime();
+            int tagCount = readCount();
+            List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new JsonAdaptedTag(readDictionaryEntry()));
+            }
+            String rating = String.valueOf(readByte());
+            String profilePicturePath = readByte() == 0 ? null : readString();
+
+            if (buffer.position() != recordEnd) {
+                throw new IOException("Applicant record is longer than its content");
+            }
+            isReadingRecord = false;
+            buffer.limit(limit);
+            return new JsonAdaptedApplicant(name, phone, email, jobPosition, status, address, addedTime, tags,
+                    rating, profilePicturePath);
+        }
+
+        private LocalDateTime readAddedTime() throws IOException {
+            long epochSecond = unZigZag(readVarLong());
+            int nano = readCount();
+            try {
+                return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+            } catch (DateTimeException e) {
+                throw new IOException("Invalid added time", e);
+            }
+        }
+
+        private String readPhone() throws IOException {
+            int digits = readCount();
+            if (digits > MAX_NUMERIC_PHONE_DIGITS) {
+                return readUtf8(digits);
+            }
+            String value = String.valueOf(readVarLong());
+            if (value.length() > digits) {
+                throw new IOException("Phone number has more digits than recorded");
+            }
+            char[] leadingZeros = new char[digits - value.length()];
+            Arrays.fill(leadingZeros, '0');
+            return new String(leadingZeros) + value;
+        }
+
+        private String readDictionaryEntry() throws IOException {
+            int index = readCount();
+            if (index >= dictionary.length) {
+                throw new IOException("Dictionary index " + index + " is out of range");
+            }
+            return dictionary[index];
+        }
+
+        private String readString() throws IOException {
+            return readUtf8(readCount());
+        }
+
+        private String readUtf8(int length) throws IOException {
+            ensureAvailable(length);
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Reads a varint that is a count or a length, which must fit in an int.
+         */
+        private int readCount() throws IOException {
+            long value = readVarLong();
+            if (value < 0 || value > Integer.MAX_VALUE) {
+                throw new IOException("Invalid length " + value);
+            }
+            return (int) value;
+        }
+
+        private byte readByte() throws IOException {
+            ensureAvailable(1);
+            return buffer.get();
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        /**
+         * Makes sure that the next {@code length} bytes of the file are in the buffer.
+         * Inside a record, the whole record is in the buffer already.
+         */
+        private void ensureAvailable(int length) throws IOException {
+            if (buffer.remaining() >= length) {
+                return;
+            }
+            if (isReadingRecord) {
+                throw new IOException("Applicant record is shorter than its content");
+            }
+            if (length > buffer.capacity()) {
+                ByteBuffer larger = ByteBuffer.allocateDirect(length);
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+            while (buffer.position() < length) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Binary address book file is truncated");
+                }
+            }
+            buffer.flip();
+        }
+
+        private static long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+
+    /**
+     * A growable byte array that values are encoded into before they are copied to the direct buffer.
+     */
+    private static class ByteArray {
+        private byte[] bytes = new byte[256];
+        private int size = 0;
+
+        void clear() {
+            size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] array() {
+            return bytes;
+        }
+
+        void putByte(byte value) {
+            ensureCapacity(1);
+            bytes[size++] = value;
+        }
+
+        void putBytes(byte[] values) {
+            ensureCapacity(values.length);
+            System.arraycopy(values, 0, bytes, size, values.length);
+            size += values.length;
+        }
+
+        void putInt(int value) {
+            putByte((byte) (value >>> 24));
+            putByte((byte) (value >>> 16));
+            putByte((byte) (value >>> 8));
+            putByte((byte) value);
+        }
+
+        void putVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                putByte((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            putByte((byte) value);
+        }
+
+        void putString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            putVarLong(utf8.length);
+            putBytes(utf8);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+}
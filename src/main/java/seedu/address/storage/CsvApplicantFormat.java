@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.applicant.Address;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.Email;
+import seedu.address.model.applicant.JobPosition;
+import seedu.address.model.applicant.Name;
+import seedu.address.model.applicant.Phone;
+import seedu.address.model.applicant.Rating;
+import seedu.address.model.applicant.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The columns of a CSV file of applicants, as written by {@code export} and read by {@code import}.
+ * <p>
+ * The first row of a file is its header, which names the column of each field, so the columns of a file read
+ * can be in any order. The tags, added time and rating columns may be left out of a file read, in which case its
+ * applicants have no tags, are added at the time of reading and are unrated.
+ * <p>
+ * A format only reads rows, so it can be used from multiple threads at once.
+ */
+public class CsvApplicantFormat {
+
+    public static final String MISSING_COLUMN_MESSAGE_FORMAT = "The CSV file has no %s column";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Applicant's %s field is missing!";
+    public static final String INVALID_ADDED_TIME_MESSAGE = "Added time should be a date and time such as "
+            + "2024-03-15T10:15:30";
+
+    /** The header of an exported file, naming its columns in order. */
+    public static final List<String> HEADER = List.of("Name", "Email", "Phone", "Address", "Job Position", "Status",
+            "Tags", "Added Time", "Rating");
+    public static final String TAG_SEPARATOR = ";";
+
+    private static final int NAME = 0;
+    private static final int EMAIL = 1;
+    private static final int PHONE = 2;
+    private static final int ADDRESS = 3;
+    private static final int JOB_POSITION = 4;
+    private static final int STATUS = 5;
+    private static final int TAGS = 6;
+    private static final int ADDED_TIME = 7;
+    private static final int RATING = 8;
+    private static final int FIRST_OPTIONAL_COLUMN = TAGS;
+
+    // the rating as exported, "Unassigned" or "4 / 5", see Rating#toString()
+    private static final String UNASSIGNED_RATING = "Unassigned";
+    private static final String RATING_SUFFIX = " / " + Rating.MAX_SCORE;
+
+    // the index in a row of each column of HEADER, or -1 if the file has no such column
+    private final int[] columnIndexes;
+
+    private CsvApplicantFormat(int[] columnIndexes) {
+        this.columnIndexes = columnIndexes;
+    }
+
+    /**
+     * Returns the format of a file with {@code header} as its first row.
+     * Column names are matched regardless of case and surrounding whitespace.
+     *
+     * @throws IllegalValueException if the header has no column for a field that is required.
+     */
+    public static CsvApplicantFormat fromHeader(String[] header) throws IllegalValueException {
+        requireNonNull(header);
+        int[] columnIndexes = new int[HEADER.size()];
+        Arrays.fill(columnIndexes, -1);
+        for (int i = header.length - 1; i >= 0; i--) {
+            for (int column = 0; column < HEADER.size(); column++) {
+                if (header[i] != null && HEADER.get(column).equalsIgnoreCase(header[i].trim())) {
+                    columnIndexes[column] = i;
+                }
+            }
+        }
+
+        for (int column = 0; column < FIRST_OPTIONAL_COLUMN; column++) {
+            if (columnIndexes[column] == -1) {
+                throw new IllegalValueException(String.format(MISSING_COLUMN_MESSAGE_FORMAT, HEADER.get(column)));
+            }
+        }
+        return new CsvApplicantFormat(columnIndexes);
+    }
+
+    /**
+     * Returns the row of {@code applicant} in an exported file, in the order of {@link #HEADER}.
+     */
+    public static String[] toRow(Applicant applicant) {
+        return new String[] {
+            applicant.getName().fullName,
+            applicant.getEmail().value,
+            applicant.getPhone().value,
+            applicant.getAddress().value,
+            applicant.getJobPosition().jobPosition,
+            applicant.getStatus().value,
+            applicant.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(TAG_SEPARATOR)),
+            applicant.getAddedTime().toString(),
+            applicant.getRating().toString()
+        };
+    }
+
+    /**
+     * Converts {@code row} into the model's {@code Applicant} object.
+     * An applicant without an added time is given {@code defaultAddedTime}.
+     *
+     * @throws IllegalValueException if a field is missing from the row, or violates its constraints.
+     */
+    public Applicant toModelType(String[] row, LocalDateTime defaultAddedTime) throws IllegalValueException {
+        requireNonNull(row);
+        final Name modelName = toModelField(row, NAME, Name.class.getSimpleName(), Name::new,
+                Name.MESSAGE_CONSTRAINTS);
+        final Phone modelPhone = toModelField(row, PHONE, Phone.class.getSimpleName(), Phone::new,
+                Phone.MESSAGE_CONSTRAINTS);
+        final Email modelEmail = toModelField(row, EMAIL, Email.class.getSimpleName(), Email::new,
+                Email.MESSAGE_CONSTRAINTS);
+        final JobPosition modelJobPosition = toModelField(row, JOB_POSITION, JobPosition.class.getSimpleName(),
+                JobPosition::of, JobPosition.MESSAGE_CONSTRAINTS);
+        final Status modelStatus = toModelField(row, STATUS, Status.class.getSimpleName(), Status::of,
+                Status.MESSAGE_CONSTRAINTS);
+        final Address modelAddress = toModelField(row, ADDRESS, Address.class.getSimpleName(), Address::new,
+                Address.MESSAGE_CONSTRAINTS);
+
+        final Set<Tag> modelTags = new HashSet<>();
+        String tags = getValue(row, TAGS);
+        if (tags != null) {
+            for (String tagName : tags.split(TAG_SEPARATOR)) {
+                if (!tagName.isBlank()) {
+                    modelTags.add(toModelValue(tagName.trim(), Tag::of, Tag.MESSAGE_CONSTRAINTS));
+                }
+            }
+        }
+
+        final LocalDateTime modelAddedTime;
+        String addedTime = getValue(row, ADDED_TIME);
+        if (addedTime == null) {
+            modelAddedTime = defaultAddedTime;
+        } else {
+            try {
+                modelAddedTime = LocalDateTime.parse(addedTime);
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(INVALID_ADDED_TIME_MESSAGE);
+            }
+        }
+
+        String rating = getValue(row, RATING);
+        final Rating modelRating = rating == null || rating.equalsIgnoreCase(UNASSIGNED_RATING)
+                ? Rating.of(Rating.UNASSIGNED_SCORE)
+                : toModelValue(stripSuffix(rating, RATING_SUFFIX), Rating::of, Rating.MESSAGE_CONSTRAINTS);
+
+        return new Applicant(modelName, modelPhone, modelEmail, modelJobPosition, modelStatus, modelAddress,
+                modelAddedTime, modelTags, modelRating);
+    }
+
+    /**
+     * Returns the trimmed value of {@code column} in {@code row}, or null if it is blank or missing.
+     */
+    private String getValue(String[] row, int column) {
+        int index = columnIndexes[column];
+        if (index == -1 || index >= row.length || row[index] == null || row[index].isBlank()) {
+            return null;
+        }
+        return row[index].trim();
+    }
+
+    /**
+     * Converts the value of {@code column} in {@code row} into a field of the model with {@code factory}.
+     *
+     * @throws IllegalValueException if the value is missing, or is rejected by {@code factory}.
+     */
+    private <T> T toModelField(String[] row, int column, String fieldName, Function<String, T> factory,
+            String constraints) throws IllegalValueException {
+        String value = getValue(row, column);
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return toModelValue(value, factory, constraints);
+    }
+
+    private static <T> T toModelValue(String value, Function<String, T> factory, String constraints)
+            throws IllegalValueException {
+        try {
+            return factory.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(constraints);
+        }
+    }
+
+    private static String stripSuffix(String value, String suffix) {
+        return value.endsWith(suffix) ? value.substring(0, value.length() - suffix.length()).trim() : value;
+    }
+}
@@ -0,0 +1,557 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.ApplicantListChange;
+import seedu.address.model.applicant.Email;
+import seedu.address.model.applicant.Phone;
+import seedu.address.model.applicant.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ * <p>
+ * The snapshot has the same format as the file written by {@link JsonAddressBookStorage}. Every save appends one
+ * compact record per changed applicant to a journal file next to the snapshot, instead of rewriting the whole
+ * snapshot. Once the journal grows past {@link #getCompactionThreshold(int)} records, it is folded back into a
+ * fresh snapshot. Reading loads the snapshot and replays the journal on top of it.
+ * <p>
+ * The changed applicants are found from the {@code ApplicantListChange}s recorded since the last save, so a save
+ * takes time in proportion to the number of changes rather than the number of applicants. Only when the whole list
+ * was replaced is it compared with what was last saved. Every append is forced to the disk before the save returns.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int MIN_COMPACTION_THRESHOLD = 1000;
+
+    private static final String MESSAGE_UNKNOWN_OPERATION = "Unknown journal operation: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private Path filePath;
+
+    // What is known to be on disk at filePath, in order, or null if the files have not been read or written yet
+    private List<Applicant> persistedApplicants;
+    // The latest change of the address book that was last written, or null if it is not known
+    private ApplicantListChange persistedChange;
+    private int journalEntryCount;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalPath = getJournalFilePath(filePath);
+        boolean hasSnapshot = Files.exists(filePath);
+        if (!hasSnapshot && !Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        ReplayedApplicants applicants = new ReplayedApplicants();
+        try {
+            if (hasSnapshot) {
+                for (Applicant applicant : JsonAddressBookStream.readAddressBook(filePath).getPersonList()) {
+                    applicants.put(applicant);
+                }
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        try {
+            int replayedEntries = replayJournal(journalPath, applicants);
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(applicants.toList());
+
+            if (filePath.equals(this.filePath)) {
+                rememberPersisted(addressBook.getPersonListSnapshot(), null);
+                journalEntryCount = replayedEntries;
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate applicants found in " + filePath);
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only appends the changes since the last read or save when {@code filePath} is the path of this storage,
+     * otherwise writes a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        List<Applicant> applicants = addressBook.getPersonListSnapshot();
+        ApplicantListChange latestChange = addressBook.getLatestChange().orElse(null);
+        Optional<List<JsonAdaptedJournalEntry>> entries = persistedApplicants == null || !Files.exists(filePath)
+                ? Optional.empty()
+                : computeChanges(applicants, addressBook.getLatestChange());
+        if (entries.isEmpty()
+                || journalEntryCount + entries.get().size() > getCompactionThreshold(applicants.size())) {
+            compact(addressBook, applicants, latestChange);
+            return;
+        }
+
+        if (!entries.get().isEmpty()) {
+            appendToJournal(getJournalFilePath(filePath), entries.get());
+            journalEntryCount += entries.get().size();
+        }
+        rememberPersisted(applicants, latestChange);
+    }
+
+    /**
+     * Returns the number of journal records after which the journal is folded into a new snapshot.
+     * Growing the threshold with the size of the book keeps the amortized cost of compaction per change constant.
+     */
+    static int getCompactionThreshold(int numberOfApplicants) {
+        return Math.max(MIN_COMPACTION_THRESHOLD, numberOfApplicants);
+    }
+
+    /**
+     * Writes {@code addressBook}, which holds {@code applicants} after {@code latestChange}, as the new snapshot and
+     * discards the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, List<Applicant> applicants,
+                         ApplicantListChange latestChange) throws IOException {
+        logger.fine("Compacting journal into snapshot " + filePath);
+        writeSnapshot(addressBook, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        journalEntryCount = 0;
+        rememberPersisted(applicants, latestChange);
+    }
+
+    /**
+     * Writes {@code addressBook} as a full snapshot to {@code snapshotPath}.
+     * The snapshot is written through a temporary file, so a crash never leaves a partial snapshot behind.
+     */
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, Path snapshotPath) throws IOException {
+        JsonAddressBookStream.writeAddressBook(addressBook, snapshotPath);
+    }
+
+    /**
+     * Appends {@code entries} to the journal, one compact json record per line, and forces them to the disk,
+     * so that a save that returns survives a crash of the app or of the system.
+     */
+    private static void appendToJournal(Path journalPath, List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            records.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the journal records that turn the persisted applicants into {@code applicants}, whose latest change is
+     * {@code latestChange}, or an empty {@code Optional} if the changes since the last save are no longer known.
+     */
+    private Optional<List<JsonAdaptedJournalEntry>> computeChanges(List<Applicant> applicants,
+                                                                   Optional<ApplicantListChange> latestChange) {
+        if (latestChange.isEmpty()) {
+            return Optional.of(compareApplicants(applicants, Set.of()));
+        }
+
+        // walk back from the latest change to the one that was last written, if the chain still reaches it
+        List<ApplicantListChange> changes = new ArrayList<>();
+        ApplicantListChange change = latestChange.get();
+        while (change != null && change != persistedChange) {
+            changes.add(change);
+            change = change.getPrevious();
+        }
+        boolean isPersistedChangeFound = change != null;
+        boolean isWholeListRecorded = !changes.isEmpty() && changes.get(changes.size() - 1).isFirstOfList();
+        if (!isPersistedChangeFound && !isWholeListRecorded) {
+            return Optional.empty();
+        }
+        Collections.reverse(changes);
+
+        boolean isReset = !isPersistedChangeFound
+                || changes.stream().anyMatch(c -> c.getKind() == ApplicantListChange.Kind.RESET);
+        if (!isReset) {
+            return Optional.of(replayChanges(changes));
+        }
+        Set<Applicant> modified = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ApplicantListChange c : changes) {
+            if (c.getKind() == ApplicantListChange.Kind.MODIFY) {
+                modified.addAll(c.getAdded());
+            }
+        }
+        return Optional.of(compareApplicants(applicants, modified));
+    }
+
+    /**
+     * Returns the journal records that make the same {@code changes}, oldest first, to the persisted applicants.
+     * None of the changes may be a {@code RESET}.
+     */
+    private static List<JsonAdaptedJournalEntry> replayChanges(List<ApplicantListChange> changes) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (ApplicantListChange change : changes) {
+            switch (change.getKind()) {
+            case ADD:
+            case MODIFY:
+                for (Applicant applicant : change.getAdded()) {
+                    entries.add(JsonAdaptedJournalEntry.put(applicant, null));
+                }
+                break;
+            case REMOVE:
+                entries.add(JsonAdaptedJournalEntry.remove(change.getRemoved().getEmail().value));
+                break;
+            case SET:
+                Applicant edited = change.getAdded().get(0);
+                Email replaced = change.getRemoved().getEmail();
+                entries.add(JsonAdaptedJournalEntry.put(edited, replaced.equals(edited.getEmail())
+                        ? null : replaced.value));
+                break;
+            default:
+                throw new IllegalArgumentException("Cannot replay a " + change.getKind() + " change");
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the journal records that turn the persisted applicants into {@code applicants}, found by comparing
+     * the two lists. Applicants in {@code modified} were changed in place, so they are written even if they are
+     * the same objects as the persisted ones.
+     */
+    private List<JsonAdaptedJournalEntry> compareApplicants(List<Applicant> applicants, Set<Applicant> modified) {
+        if (isSameApplicants(applicants, modified)) {
+            return List.of();
+        }
+
+        Map<Email, Applicant> persistedByEmail = new HashMap<>();
+        for (Applicant persisted : persistedApplicants) {
+            persistedByEmail.put(persisted.getEmail(), persisted);
+        }
+        Map<Email, Applicant> currentByEmail = new HashMap<>();
+        for (Applicant applicant : applicants) {
+            currentByEmail.put(applicant.getEmail(), applicant);
+        }
+
+        // Applicants that are gone, keyed by phone so that an edit of the email can replace them in place
+        Map<Phone, Email> removedByPhone = new LinkedHashMap<>();
+        for (Applicant persisted : persistedApplicants) {
+            if (!currentByEmail.containsKey(persisted.getEmail())) {
+                removedByPhone.put(persisted.getPhone(), persisted.getEmail());
+            }
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        Map<Email, Email> replacements = new HashMap<>();
+        List<Email> appended = new ArrayList<>();
+        for (Applicant applicant : applicants) {
+            Applicant persisted = persistedByEmail.get(applicant.getEmail());
+            if (persisted == null) {
+                Email replaced = removedByPhone.remove(applicant.getPhone());
+                if (replaced != null) {
+                    replacements.put(replaced, applicant.getEmail());
+                } else {
+                    appended.add(applicant.getEmail());
+                }
+                entries.add(JsonAdaptedJournalEntry.put(applicant, replaced == null ? null : replaced.value));
+            } else if (!isUnchanged(applicant, persisted, modified)) {
+                entries.add(JsonAdaptedJournalEntry.put(applicant, null));
+            }
+        }
+        for (Email removed : removedByPhone.values()) {
+            entries.add(JsonAdaptedJournalEntry.remove(removed.value));
+        }
+
+        // Replaying the records above keeps the persisted order and appends new applicants at the end,
+        // anything else (e.g. replacing the whole list) needs the new order to be recorded explicitly
+        List<Email> orderAfterReplay = new ArrayList<>();
+        for (Applicant persisted : persistedApplicants) {
+            Email email = persisted.getEmail();
+            if (currentByEmail.containsKey(email)) {
+                orderAfterReplay.add(email);
+            } else if (replacements.containsKey(email)) {
+                orderAfterReplay.add(replacements.get(email));
+            }
+        }
+        orderAfterReplay.addAll(appended);
+
+        List<String> currentOrder = new ArrayList<>();
+        boolean isReordered = false;
+        for (int i = 0; i < applicants.size(); i++) {
+            Email email = applicants.get(i).getEmail();
+            currentOrder.add(email.value);
+            isReordered |= !email.equals(orderAfterReplay.get(i));
+        }
+        if (isReordered) {
+            entries.add(JsonAdaptedJournalEntry.order(currentOrder));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns true if {@code applicants} are the persisted applicants themselves, in the same order, and none of them
+     * is in {@code modified}.
+     */
+    private boolean isSameApplicants(List<Applicant> applicants, Set<Applicant> modified) {
+        if (applicants.size() != persistedApplicants.size()) {
+            return false;
+        }
+        for (int i = 0; i < applicants.size(); i++) {
+            Applicant applicant = applicants.get(i);
+            if (applicant != persistedApplicants.get(i) || modified.contains(applicant)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code current} is the same as the {@code persisted} applicant with its email.
+     */
+    private static boolean isUnchanged(Applicant current, Applicant persisted, Set<Applicant> modified) {
+        if (current == persisted) {
+            return !modified.contains(current);
+        }
+        return current.equals(persisted) && current.getAddedTime().equals(persisted.getAddedTime());
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} to {@code applicants}.
+     * A malformed last record is ignored, as it can only come from a write that was interrupted.
+     *
+     * @return the number of records applied.
+     */
+    private static int replayJournal(Path journalPath, ReplayedApplicants applicants)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    lines.add(line);
+                }
+            }
+        }
+
+        int applied = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last record in journal " + journalPath);
+                    break;
+                }
+                throw ioe;
+            }
+            apply(entry, applicants);
+            applied++;
+        }
+        return applied;
+    }
+
+    /**
+     * Applies a single journal record to {@code applicants}. Records are idempotent, so that replaying a journal
+     * that was already folded into the snapshot gives the same result.
+     */
+    private static void apply(JsonAdaptedJournalEntry entry, ReplayedApplicants applicants)
+            throws IllegalValueException {
+        String operation = String.valueOf(entry.getOperation());
+        switch (operation) {
+        case JsonAdaptedJournalEntry.OPERATION_PUT:
+            Applicant applicant = entry.getApplicant().toModelType();
+            String replaces = entry.getReplaces();
+            if (replaces != null && applicants.contains(replaces)) {
+                applicants.replace(replaces, applicant);
+            } else {
+                applicants.put(applicant);
+            }
+            break;
+        case JsonAdaptedJournalEntry.OPERATION_REMOVE:
+            applicants.remove(entry.getEmail());
+            break;
+        case JsonAdaptedJournalEntry.OPERATION_ORDER:
+            applicants.reorder(entry.getEmails());
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, operation));
+        }
+    }
+
+    /**
+     * Records {@code applicants}, a list that never changes, as the state that is now on disk,
+     * reached by {@code latestChange} if it is known.
+     */
+    private void rememberPersisted(List<Applicant> applicants, ApplicantListChange latestChange) {
+        persistedApplicants = applicants;
+        persistedChange = latestChange;
+    }
+
+    /**
+     * The applicants rebuilt from a snapshot and a journal, in order and keyed by email.
+     * <p>
+     * An applicant keeps its slot when it is replaced or removed, so that no record has to move the applicants after
+     * it, and every record but an order record, which lists every applicant anyway, is applied in constant time.
+     */
+    private static class ReplayedApplicants {
+        // the applicants in order, with null in the slots of removed applicants
+        private final List<Applicant> slots = new ArrayList<>();
+        private final Map<String, Integer> slotByEmail = new HashMap<>();
+
+        boolean contains(String email) {
+            return slotByEmail.containsKey(email);
+        }
+
+        /**
+         * Replaces the applicant with the same email as {@code applicant} in its slot, or appends {@code applicant}.
+         */
+        void put(Applicant applicant) {
+            String email = applicant.getEmail().value;
+            Integer slot = slotByEmail.get(email);
+            if (slot != null) {
+                slots.set(slot, applicant);
+            } else {
+                slotByEmail.put(email, slots.size());
+                slots.add(applicant);
+            }
+        }
+
+        /**
+         * Puts {@code applicant} in the slot of the applicant with {@code email}, which must be present.
+         * Another applicant that already has the email of {@code applicant} is removed.
+         */
+        void replace(String email, Applicant applicant) {
+            int slot = slotByEmail.remove(email);
+            remove(applicant.getEmail().value);
+            slotByEmail.put(applicant.getEmail().value, slot);
+            slots.set(slot, applicant);
+        }
+
+        void remove(String email) {
+            Integer slot = slotByEmail.remove(email);
+            if (slot != null) {
+                slots.set(slot, null);
+            }
+        }
+
+        /**
+         * Rearranges the applicants into the order of {@code emails}. Applicants missing from {@code emails} keep
+         * their relative order at the end.
+         */
+        void reorder(List<String> emails) {
+            List<Applicant> reordered = new ArrayList<>(slotByEmail.size());
+            for (String email : emails) {
+                Integer slot = slotByEmail.get(email);
+                if (slot != null && slots.get(slot) != null) {
+                    reordered.add(slots.get(slot));
+                    slots.set(slot, null);
+                }
+            }
+            for (Applicant applicant : slots) {
+                if (applicant != null) {
+                    reordered.add(applicant);
+                }
+            }
+
+            slots.clear();
+            slotByEmail.clear();
+            reordered.forEach(this::put);
+        }
+
+        /**
+         * Returns the applicants, in order.
+         */
+        List<Applicant> toList() {
+            List<Applicant> applicants = new ArrayList<>(slotByEmail.size());
+            for (Applicant applicant : slots) {
+                if (applicant != null) {
+                    applicants.add(applicant);
+                }
+            }
+            return applicants;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -95,54 +96,17 @@ class JsonAdaptedApplicant {
             personTags.add(tag.toModelType());
         }
 
-        if (name == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
-        }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
-
-        if (phone == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
-        }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
-
-        if (email == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
-        }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
-
-        if (jobPosition == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    JobPosition.class.getSimpleName()));
-        }
-        if (!JobPosition.isValidJobPosition(jobPosition)) {
-            throw new IllegalValueException(JobPosition.MESSAGE_CONSTRAINTS);
-        }
-        final JobPosition modelJobPosition = new JobPosition(jobPosition);
-
-        if (status == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Status.class.getSimpleName()));
-        }
-        if (!Status.isValidStatus(status)) {
-            throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
-        }
-        final Status modelStatus = new Status(status);
-
-        if (address == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
-        }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
+        final Name modelName = toModelField(name, Name.class.getSimpleName(), Name::new, Name.MESSAGE_CONSTRAINTS);
+        final Phone modelPhone = toModelField(phone, Phone.class.getSimpleName(), Phone::new,
+                Phone.MESSAGE_CONSTRAINTS);
+        final Email modelEmail = toModelField(email, Email.class.getSimpleName(), Email::new,
+                Email.MESSAGE_CONSTRAINTS);
+        final JobPosition modelJobPosition = toModelField(jobPosition, JobPosition.class.getSimpleName(),
+                JobPosition::of, JobPosition.MESSAGE_CONSTRAINTS);
+        final Status modelStatus = toModelField(status, Status.class.getSimpleName(), Status::of,
+                Status.MESSAGE_CONSTRAINTS);
+        final Address modelAddress = toModelField(address, Address.class.getSimpleName(), Address::new,
+                Address.MESSAGE_CONSTRAINTS);
 
         if (addedTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "AddedTime"));
@@ -156,15 +120,28 @@ class JsonAdaptedApplicant {
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
-        if (rating == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Rating.class.getSimpleName()));
-        }
-        if (!Rating.isValidRating(rating)) {
-            throw new IllegalValueException(Rating.MESSAGE_CONSTRAINTS);
-        }
-        final Rating modelRating = new Rating(rating);
+        final Rating modelRating = toModelField(rating, Rating.class.getSimpleName(), Rating::of,
+                Rating.MESSAGE_CONSTRAINTS);
         return new Applicant(modelName, modelPhone, modelEmail, modelJobPosition, modelStatus, modelAddress,
                 modelAddedTime, modelTags, modelRating, modelProfilePicturePath);
     }
 
+    /**
+     * Converts {@code value} into a field of the model with {@code factory}, which validates it.
+     * Each field is validated only once, by the model class itself, instead of being checked here as well.
+     *
+     * @throws IllegalValueException if {@code value} is missing, or is rejected by {@code factory}.
+     */
+    private static <T> T toModelField(String value, String fieldName, Function<String, T> factory,
+            String constraints) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        try {
+            return factory.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(constraints);
+        }
+    }
+
 }
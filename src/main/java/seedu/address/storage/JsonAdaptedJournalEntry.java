@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * Jackson-friendly version of a single mutation record in the address book journal.
+ * A record either upserts an applicant, removes an applicant, or rewrites the order of the applicants.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_PUT = "put";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String OPERATION_ORDER = "order";
+
+    private final String operation;
+    private final JsonAdaptedApplicant applicant;
+    private final String replaces;
+    private final String email;
+    private final List<String> emails = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation,
+                                   @JsonProperty("applicant") JsonAdaptedApplicant applicant,
+                                   @JsonProperty("replaces") String replaces,
+                                   @JsonProperty("email") String email,
+                                   @JsonProperty("emails") List<String> emails) {
+        this.operation = operation;
+        this.applicant = applicant;
+        this.replaces = replaces;
+        this.email = email;
+        if (emails != null) {
+            this.emails.addAll(emails);
+        }
+    }
+
+    /**
+     * Returns a record that inserts or updates {@code applicant}.
+     * If {@code replacedEmail} is not null, the applicant takes the place of the applicant with that email.
+     */
+    public static JsonAdaptedJournalEntry put(Applicant applicant, String replacedEmail) {
+        return new JsonAdaptedJournalEntry(OPERATION_PUT, new JsonAdaptedApplicant(applicant), replacedEmail,
+                null, null);
+    }
+
+    /**
+     * Returns a record that removes the applicant with the given {@code email}.
+     */
+    public static JsonAdaptedJournalEntry remove(String email) {
+        return new JsonAdaptedJournalEntry(OPERATION_REMOVE, null, null, email, null);
+    }
+
+    /**
+     * Returns a record that rearranges the applicants into the order of {@code emails}.
+     */
+    public static JsonAdaptedJournalEntry order(List<String> emails) {
+        return new JsonAdaptedJournalEntry(OPERATION_ORDER, null, null, null, emails);
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public JsonAdaptedApplicant getApplicant() {
+        return applicant;
+    }
+
+    public String getReplaces() {
+        return replaces;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public List<String> getEmails() {
+        return emails;
+    }
+
+}
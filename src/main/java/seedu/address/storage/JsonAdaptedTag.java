@@ -39,10 +39,15 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
+        if (tagName == null) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        try {
+            // the tag name is only validated by Tag itself, and not at all if the tag is already in use
+            return Tag.of(tagName);
+        } catch (IllegalArgumentException e) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
     }
 
 }
@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * Reads and writes an address book json file without holding the whole file in memory.
+ * <p>
+ * The file has the same structure as a {@link JsonSerializableAddressBook}, but neither the file content nor
+ * the full list of {@code JsonAdaptedApplicant}s is ever held in memory: parsed applicants are converted into
+ * the {@code AddressBook} in batches of {@link #BATCH_SIZE}, and each applicant is generated as soon as it is
+ * converted out of it. Files are written without whitespace.
+ */
+class JsonAddressBookStream {
+
+    static final String PERSONS_FIELD = "persons";
+
+    /** Number of parsed applicants that are converted together, so that they can be converted in parallel. */
+    static final int BATCH_SIZE = 8 * JsonSerializableAddressBook.PARALLEL_CONVERSION_THRESHOLD;
+
+    /**
+     * Reads the address book in {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file cannot be read or is not a json address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readAddressBook(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        AddressBook addressBook = new AddressBook();
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && value != JsonToken.VALUE_NULL) {
+                    readApplicants(parser, addressBook);
+                } else {
+                    // unknown fields are ignored, as they are when the whole file is deserialized at once
+                    parser.skipChildren();
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Expected the end of the address book object");
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the applicants in the array that starts at the current token of {@code parser} into {@code addressBook}.
+     */
+    private static void readApplicants(JsonParser parser, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of applicants");
+        }
+        List<JsonAdaptedApplicant> batch = new ArrayList<>(BATCH_SIZE);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            batch.add(JsonUtil.readValue(parser, JsonAdaptedApplicant.class));
+            if (batch.size() == BATCH_SIZE) {
+                JsonSerializableAddressBook.addToAddressBook(batch, addressBook);
+                batch.clear();
+            }
+        }
+        if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+            throw new JsonParseException(parser, "Expected an applicant object");
+        }
+        JsonSerializableAddressBook.addToAddressBook(batch, addressBook);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the file if it exists.
+     * The file never holds a partially written address book, see {@link FileUtil#writeToFile(Path,
+     * FileUtil.ContentWriter)}.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFile(filePath, channel -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(Channels.newOutputStream(channel))) {
+                generator.writeStartObject();
+                generator.writeFieldName(PERSONS_FIELD);
+                generator.writeStartArray();
+                for (Applicant applicant : addressBook.getPersonList()) {
+                    JsonUtil.writeValue(generator, new JsonAdaptedApplicant(applicant));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+}
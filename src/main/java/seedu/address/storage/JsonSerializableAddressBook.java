@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -21,6 +22,9 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate applicant(s).";
 
+    // below this many applicants, splitting the conversion across threads costs more than it saves
+    static final int PARALLEL_CONVERSION_THRESHOLD = 1024;
+
     private final List<JsonAdaptedApplicant> persons = new ArrayList<>();
 
     /**
@@ -47,14 +51,46 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedApplicant jsonAdaptedApplicant : persons) {
-            Applicant applicant = jsonAdaptedApplicant.toModelType();
-            if (addressBook.hasPerson(applicant)) {
+        addToAddressBook(persons, addressBook);
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code adaptedApplicants} and adds them to the end of {@code addressBook}, in order.
+     * <p>
+     * Lists of at least {@link #PARALLEL_CONVERSION_THRESHOLD} applicants are validated and converted in parallel
+     * on the common fork/join pool, then checked for duplicates in a single pass over the hash-indexed list.
+     * The exception thrown is the one that converting and adding the applicants one by one would have thrown first.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or an applicant is a duplicate.
+     */
+    static void addToAddressBook(List<JsonAdaptedApplicant> adaptedApplicants, AddressBook addressBook)
+            throws IllegalValueException {
+        int size = adaptedApplicants.size();
+        Applicant[] applicants = new Applicant[size];
+        IllegalValueException[] failures = new IllegalValueException[size];
+
+        IntStream indexes = IntStream.range(0, size);
+        if (size >= PARALLEL_CONVERSION_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            try {
+                applicants[i] = adaptedApplicants.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                failures[i] = ive;
+            }
+        });
+
+        for (int i = 0; i < size; i++) {
+            if (failures[i] != null) {
+                throw failures[i];
+            }
+            if (addressBook.hasPerson(applicants[i])) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(applicant);
+            addressBook.addPerson(applicants[i]);
         }
-        return addressBook;
     }
 
 }
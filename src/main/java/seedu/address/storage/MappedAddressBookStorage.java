@@ -0,0 +1,478 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * A class to access AddressBook data stored as a memory-mapped file on the hard disk.
+ * <p>
+ * The file starts with a header of {@link #HEADER_SIZE} bytes, followed by one record of {@link #RECORD_SIZE} bytes
+ * per applicant and a string heap. A record holds the added time and rating of an applicant, and an offset and a
+ * length into the string heap for each of its other fields. Strings are UTF-8, and the job positions, statuses and
+ * tag lists that applicants share are stored in the heap once.
+ * <p>
+ * Reading the file only maps it into memory, so it takes the same time however many applicants there are.
+ * The applicants of the address book read are created from their records as they are read, and the most recently
+ * read ones are kept in a small cache of soft references. Since the model copies the applicants out of the file
+ * once they are searched or changed, see {@code UniqueApplicantList#setPersonsLazily(List)}, the heap only stays
+ * flat while applicants are just being browsed.
+ * <p>
+ * The records and the string heap must each be smaller than 2GB. Records are validated as they are read rather
+ * than when the file is read, so a corrupted record throws an {@code IllegalStateException} when it is read.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    /** The first four bytes of every mapped address book file, "RTAM". */
+    static final int MAGIC = 0x5254414D;
+    static final int FORMAT_VERSION = 1;
+
+    /** Magic, version, number of applicants, record size and string heap size. */
+    static final int HEADER_SIZE = 4 * Integer.BYTES + Long.BYTES;
+    private static final int PADDING_SIZE = 3;
+    /** Eight heap references, the added time, the rating and padding. */
+    static final int RECORD_SIZE = 8 * 2 * Integer.BYTES + Long.BYTES + Integer.BYTES + Byte.BYTES + PADDING_SIZE;
+
+    // tag names cannot contain commas
+    private static final String TAG_SEPARATOR = ",";
+    private static final int NULL_LENGTH = -1;
+    private static final int RECORDS_PER_BUFFER = 1024;
+    private static final int HEAP_BUFFER_SIZE = 64 * 1024;
+    private static final int CACHE_SIZE = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private Path filePath;
+
+    public MappedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the file is not a mapped address book or cannot be mapped.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Mapped file " + filePath + " found.");
+
+        // the mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return Optional.of(map(channel, new MappedFile(filePath, attributes)));
+        } catch (IOException e) {
+            logger.warning("Error mapping file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is written through a temporary file, so a crash never leaves a partial file behind.
+     * If the applicants of {@code addressBook} are still read from the unchanged file at {@code filePath} itself,
+     * the file already holds them and is not written again.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (addressBook.isLazilyMaterialized()
+                && addressBook.getPersonListSnapshot() instanceof MappedApplicantList mappedApplicants
+                && mappedApplicants.isMappedFrom(filePath)) {
+            logger.fine("Address book is unchanged since it was mapped from " + filePath + ", not writing it");
+            return;
+        }
+        FileUtil.writeToFile(filePath, channel -> new Encoder(channel).writeAddressBook(addressBook));
+    }
+
+    /**
+     * Checks the header of the file open in {@code channel}, which is {@code mappedFile}, and maps its records and
+     * string heap.
+     */
+    private static ReadOnlyAddressBook map(FileChannel channel, MappedFile mappedFile) throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < HEADER_SIZE) {
+            throw new IOException("Not a mapped address book file");
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new EOFException("Mapped address book file is truncated");
+            }
+        }
+        header.flip();
+
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a mapped address book file");
+        }
+        int version = header.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported mapped address book version " + version);
+        }
+        int applicantCount = header.getInt();
+        int recordSize = header.getInt();
+        long heapSize = header.getLong();
+        long recordsSize = (long) applicantCount * RECORD_SIZE;
+        if (applicantCount < 0 || recordSize != RECORD_SIZE || heapSize < 0) {
+            throw new IOException("Invalid mapped address book header");
+        }
+        if (recordsSize > Integer.MAX_VALUE || heapSize > Integer.MAX_VALUE) {
+            throw new IOException("Mapped address book file is too large to map");
+        }
+        if (HEADER_SIZE + recordsSize + heapSize != fileSize) {
+            throw new IOException("Mapped address book file does not match its header");
+        }
+
+        ByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, recordsSize);
+        ByteBuffer heap = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + recordsSize, heapSize);
+        return new MappedAddressBook(new MappedApplicantList(records, heap, applicantCount, mappedFile));
+    }
+
+    /**
+     * An address book whose applicants are created from a mapped file as they are read.
+     */
+    private static class MappedAddressBook implements ReadOnlyAddressBook {
+        private final MappedApplicantList applicants;
+        private final ObservableList<Applicant> observableApplicants;
+
+        MappedAddressBook(MappedApplicantList applicants) {
+            this.applicants = applicants;
+            observableApplicants = FXCollections.unmodifiableObservableList(FXCollections.observableList(applicants));
+        }
+
+        @Override
+        public ObservableList<Applicant> getPersonList() {
+            return observableApplicants;
+        }
+
+        @Override
+        public List<Applicant> getPersonListSnapshot() {
+            return applicants;
+        }
+
+        @Override
+        public boolean isLazilyMaterialized() {
+            return true;
+        }
+    }
+
+    /**
+     * The applicants in the records of a mapped file, which are created when they are read.
+     */
+    private static class MappedApplicantList extends AbstractList<Applicant> implements RandomAccess {
+        private final ByteBuffer records;
+        private final ByteBuffer heap;
+        private final int size;
+        private final MappedFile mappedFile;
+        // slot i holds the most recently read applicant whose index is i modulo CACHE_SIZE
+        private final List<SoftReference<CachedApplicant>> cache =
+                new ArrayList<>(Collections.nCopies(CACHE_SIZE, null));
+
+        MappedApplicantList(ByteBuffer records, ByteBuffer heap, int size, MappedFile mappedFile) {
+            this.records = records;
+            this.heap = heap;
+            this.size = size;
+            this.mappedFile = mappedFile;
+        }
+
+        /**
+         * Returns true if the applicants are read from the file at {@code filePath}, and it has not been replaced
+         * or changed since it was mapped.
+         */
+        boolean isMappedFrom(Path filePath) {
+            try {
+                return Files.isSameFile(mappedFile.filePath, filePath) && mappedFile.isUnchanged();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public Applicant get(int index) {
+            Objects.checkIndex(index, size);
+            int slot = index % CACHE_SIZE;
+            SoftReference<CachedApplicant> reference = cache.get(slot);
+            CachedApplicant cached = reference == null ? null : reference.get();
+            if (cached != null && cached.index == index) {
+                return cached.applicant;
+            }
+
+            Applicant applicant = readApplicant(index);
+            cache.set(slot, new SoftReference<>(new CachedApplicant(index, applicant)));
+            return applicant;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Creates the applicant in record {@code index}, validating it as applicants read from json files are.
+         */
+        private Applicant readApplicant(int index) {
+            // a slice has its own position, so records can be read from more than one thread
+            ByteBuffer record = records.slice(index * RECORD_SIZE, RECORD_SIZE);
+            try {
+                String name = readString(record);
+                String phone = readString(record);
+                String email = readString(record);
+                String jobPosition = readString(record);
+                String status = readString(record);
+                String address = readString(record);
+                String tagNames = readString(record);
+                String profilePicturePath = readString(record);
+                LocalDateTime addedTime = LocalDateTime.ofEpochSecond(record.getLong(), record.getInt(),
+                        ZoneOffset.UTC);
+                String rating = String.valueOf(record.get());
+
+                List<JsonAdaptedTag> tags = new ArrayList<>();
+                if (tagNames != null && !tagNames.isEmpty()) {
+                    for (String tagName : tagNames.split(TAG_SEPARATOR)) {
+                        tags.add(new JsonAdaptedTag(tagName));
+                    }
+                }
+                return new JsonAdaptedApplicant(name, phone, email, jobPosition, status, address, addedTime, tags,
+                        rating, profilePicturePath).toModelType();
+            } catch (IOException | IllegalValueException | DateTimeException e) {
+                throw new IllegalStateException("Applicant record " + index + " is corrupted: " + e.getMessage(), e);
+            }
+        }
+
+        /**
+         * Reads the string that the next heap reference in {@code record} points to, or null for a null reference.
+         */
+        private String readString(ByteBuffer record) throws IOException {
+            int offset = record.getInt();
+            int length = record.getInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+            if (offset < 0 || length < 0 || (long) offset + length > heap.limit()) {
+                throw new IOException("String is outside of the string heap");
+            }
+            byte[] bytes = new byte[length];
+            heap.get(offset, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * The location of a mapped file, with the attributes it had when it was mapped.
+     */
+    private static class MappedFile {
+        private final Path filePath;
+        private final BasicFileAttributes attributes;
+
+        MappedFile(Path filePath, BasicFileAttributes attributes) {
+            this.filePath = filePath;
+            this.attributes = attributes;
+        }
+
+        /**
+         * Returns true if the file at the location is still the file that was mapped, as it was then.
+         * A file that is saved again is replaced by a new file, so it has a different file key or modified time.
+         */
+        boolean isUnchanged() throws IOException {
+            BasicFileAttributes current = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return Objects.equals(current.fileKey(), attributes.fileKey())
+                    && current.lastModifiedTime().equals(attributes.lastModifiedTime())
+                    && current.size() == attributes.size();
+        }
+    }
+
+    /**
+     * An applicant in the cache of a {@code MappedApplicantList}, with its index in the list.
+     */
+    private static class CachedApplicant {
+        private final int index;
+        private final Applicant applicant;
+
+        CachedApplicant(int index, Applicant applicant) {
+            this.index = index;
+            this.applicant = applicant;
+        }
+    }
+
+    /**
+     * Writes an address book to a channel in the mapped format.
+     * Records and heap strings are buffered separately and written at their own positions in the file.
+     */
+    private static class Encoder {
+        private final FileChannel channel;
+        private final ByteBuffer records = ByteBuffer.allocateDirect(RECORDS_PER_BUFFER * RECORD_SIZE);
+        private final ByteBuffer heap = ByteBuffer.allocateDirect(HEAP_BUFFER_SIZE);
+        // job positions, statuses and tag lists are shared by many applicants, so each is stored once
+        private final Map<String, Integer> sharedOffsets = new HashMap<>();
+        private long recordsPosition = HEADER_SIZE;
+        private long heapStart;
+        private long heapFlushed = 0;
+        private long heapSize = 0;
+
+        Encoder(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            List<Applicant> applicants = addressBook.getPersonList();
+            heapStart = HEADER_SIZE + (long) applicants.size() * RECORD_SIZE;
+
+            for (Applicant applicant : applicants) {
+                if (records.remaining() < RECORD_SIZE) {
+                    flushRecords();
+                }
+                encode(applicant);
+            }
+            flushRecords();
+            flushHeap();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC);
+            header.putInt(FORMAT_VERSION);
+            header.putInt(applicants.size());
+            header.putInt(RECORD_SIZE);
+            header.putLong(heapSize);
+            header.flip();
+            write(header, 0);
+        }
+
+        private void encode(Applicant applicant) throws IOException {
+            putString(applicant.getName().fullName, false);
+            putString(applicant.getPhone().value, false);
+            putString(applicant.getEmail().value, false);
+            putString(applicant.getJobPosition().jobPosition, true);
+            putString(applicant.getStatus().value, true);
+            putString(applicant.getAddress().value, false);
+            putString(applicant.getTags().stream().map(tag -> tag.tagName).sorted()
+                    .collect(Collectors.joining(TAG_SEPARATOR)), true);
+            putString(applicant.getProfilePicturePath(), false);
+            LocalDateTime addedTime = applicant.getAddedTime();
+            records.putLong(addedTime.toEpochSecond(ZoneOffset.UTC));
+            records.putInt(addedTime.getNano());
+            records.put(applicant.getRating().getScore());
+            for (int i = 0; i < PADDING_SIZE; i++) {
+                records.put((byte) 0);
+            }
+        }
+
+        /**
+         * Appends {@code value} to the heap if needed, and puts a reference to it in the current record.
+         */
+        private void putString(String value, boolean isShared) throws IOException {
+            if (value == null) {
+                records.putInt(0);
+                records.putInt(NULL_LENGTH);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            Integer sharedOffset = isShared ? sharedOffsets.get(value) : null;
+            if (sharedOffset != null) {
+                records.putInt(sharedOffset);
+                records.putInt(bytes.length);
+                return;
+            }
+
+            if (heapSize + bytes.length > Integer.MAX_VALUE) {
+                throw new IOException("Address book is too large for a mapped file");
+            }
+            int offset = (int) heapSize;
+            appendToHeap(bytes);
+            if (isShared) {
+                sharedOffsets.put(value, offset);
+            }
+            records.putInt(offset);
+            records.putInt(bytes.length);
+        }
+
+        private void appendToHeap(byte[] bytes) throws IOException {
+            int written = 0;
+            while (written < bytes.length) {
+                if (!heap.hasRemaining()) {
+                    flushHeap();
+                }
+                int length = Math.min(heap.remaining(), bytes.length - written);
+                heap.put(bytes, written, length);
+                written += length;
+            }
+            heapSize += bytes.length;
+        }
+
+        private void flushRecords() throws IOException {
+            records.flip();
+            recordsPosition += write(records, recordsPosition);
+            records.clear();
+        }
+
+        private void flushHeap() throws IOException {
+            heap.flip();
+            heapFlushed += write(heap, heapStart + heapFlushed);
+            heap.clear();
+        }
+
+        /**
+         * Writes the remaining bytes of {@code buffer} at {@code position} in the file, and returns their number.
+         */
+        private int write(ByteBuffer buffer, long position) throws IOException {
+            int length = buffer.remaining();
+            int written = 0;
+            while (written < length) {
+                written += channel.write(buffer, position + written);
+            }
+            return length;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -28,6 +31,23 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} that stores the address book at {@code filePath} in {@code format}.
+     */
+    public static AddressBookStorage createAddressBookStorage(AddressBookFormat format, Path filePath) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case MAPPED:
+            return new MappedAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JournalAddressBookStorage(filePath);
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -16,6 +17,7 @@ import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.applicant.Applicant;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -34,6 +36,8 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private final ProfilePictureCache profilePictureCache = new ProfilePictureCache();
+    private boolean isSaveScheduled = false;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -72,6 +76,10 @@ public class MainWindow extends UiPart<Stage> {
         return primaryStage;
     }
 
+    public ProfilePictureCache getProfilePictureCache() {
+        return profilePictureCache;
+    }
+
     private void setAccelerators() {
         setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
     }
@@ -210,6 +218,30 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Schedules a single {@link #saveAddressBook()} to run after the current UI event has been handled.
+     * Requests made before it runs are covered by the same save, so that fix-ups made while rendering
+     * many cards cost one save in total.
+     */
+    public void scheduleSaveAddressBook() {
+        if (isSaveScheduled) {
+            return;
+        }
+        isSaveScheduled = true;
+        Platform.runLater(() -> {
+            isSaveScheduled = false;
+            saveAddressBook();
+        });
+    }
+
+    /**
+     * Records a change made in place to {@code applicant}, such as a new profile picture,
+     * so that the next {@link #saveAddressBook()} writes it to the storage.
+     */
+    public void markPersonModified(Applicant applicant) {
+        logic.markPersonModified(applicant);
+    }
+
     /**
      * Display error message when selected file's size is too big.
      */
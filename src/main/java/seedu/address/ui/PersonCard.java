@@ -5,16 +5,18 @@ import static seedu.address.ui.UiManager.DEFAULT_PROFILE_PIC;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -23,7 +25,6 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.shape.Circle;
 import javafx.stage.FileChooser;
-import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.applicant.Applicant;
 
@@ -43,8 +44,9 @@ public class PersonCard extends UiPart<Region> {
      */
     private static final long MAX_FILE_SIZE = 2 * 1024 * 1024; // 2 MB
     private static final String MAX_FILE_SIZE_STRING = "2MB";
-    private MainWindow mainWindow;
+    private final MainWindow mainWindow;
     private Applicant applicant;
+    private String shownProfilePicturePath;
     private final Logger logger = LogsCenter.getLogger(PersonCard.class);
     @FXML
     private HBox cardPane;
@@ -72,14 +74,45 @@ public class PersonCard extends UiPart<Region> {
     private ImageView profileImageView;
 
     /**
-     * Creates a {@code PersonCard} to display the given {@code Applicant}'s information.
+     * Creates an empty {@code PersonCard} that can be bound to an applicant with {@link #bind(Applicant, int)}.
+     * The FXML is loaded once here, binding only updates the existing nodes.
+     *
+     * @param mainWindow The main window that saves changes made through this card.
+     */
+    public PersonCard(MainWindow mainWindow) {
+        super(FXML);
+        this.mainWindow = mainWindow;
+
+        // the size of the image view never changes, so the clip can be shared by every applicant shown
+        this.setCircularImageView();
+    }
+
+    /**
+     * Factory method to create a {@code PersonCard} with the given {@code Applicant} and index to display.
+     */
+    public static PersonCard createPersonCard(MainWindow mainWindow, Applicant applicant, int displayedIndex) {
+        PersonCard personCard = new PersonCard(mainWindow);
+        personCard.bind(applicant, displayedIndex);
+        return personCard;
+    }
+
+    /**
+     * Shows the given {@code Applicant}'s information on this card, replacing what was shown before.
      *
      * @param applicant The applicant whose information is to be displayed.
      * @param displayedIndex The index number to be shown beside the applicant's name.
      */
-    private PersonCard(Applicant applicant, int displayedIndex) {
-        super(FXML);
+    public void bind(Applicant applicant, int displayedIndex) {
         id.setText(displayedIndex + ". ");
+        if (applicant == this.applicant) {
+            // only the index moves when the list is filtered or sorted, but the picture can change in place
+            if (!Objects.equals(shownProfilePicturePath, applicant.getProfilePicturePath())) {
+                this.setProfileImageView(applicant.getProfilePicturePath());
+            }
+            return;
+        }
+
+        this.applicant = applicant;
         name.setText(applicant.getName().fullName);
         phone.setText(applicant.getPhone().value);
         address.setText(applicant.getAddress().value);
@@ -89,64 +122,83 @@ public class PersonCard extends UiPart<Region> {
         addedTime.setText(applicant.getFormattedAddedTime());
         rating.setText("Rating:  " + applicant.getRating().toString());
 
-        applicant.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        bindTags(applicant);
+
+        this.setProfileImageView(applicant.getProfilePicturePath());
     }
 
     /**
-     * Factory method to create a {@code PersonCard} with the given {@code Applicant} and index to display.
+     * Shows the tags of {@code applicant}, reusing the tag labels of the previous applicant where possible.
      */
-    public static PersonCard createPersonCard(MainWindow mainWindow, Applicant applicant, int displayedIndex) {
-        PersonCard personCard = new PersonCard(applicant, displayedIndex);
-
-        personCard.mainWindow = mainWindow;
-        personCard.applicant = applicant;
-
-        personCard.setProfileImageView(applicant.getProfilePicturePath());
-
-        return personCard;
+    private void bindTags(Applicant applicant) {
+        List<String> tagNames = applicant.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+
+        ObservableList<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
+        }
     }
 
     /**
      * Configures the {@code profileImageView} by cropping the profile picture into a circular shape.
+     * Pictures that are not loaded yet are shown once they are, with the default picture as a placeholder.
      * @param imagePath is the path where the profile picture is store at.
      */
     private void setProfileImageView(String imagePath) {
-        Image image = fetchImage(imagePath);
-
-        // crop incoming image to fit the imageView
-        this.cropImage(image);
-
-        // Make ImageView Circular
-        this.setCircularImageView();
-
-        profileImageView.setImage(image);
+        ProfilePictureCache profilePictureCache = mainWindow.getProfilePictureCache();
+        shownProfilePicturePath = imagePath;
+        if (DEFAULT_PROFILE_PIC.equals(imagePath)) {
+            showImage(profilePictureCache.getDefaultImage());
+            return;
+        }
 
-        // save changes in the applicant's profile pic path
-        mainWindow.saveAddressBook();
+        // the card may have been rebound to another applicant by the time the file is looked up
+        Image image = profilePictureCache.getOrLoad(imagePath, loadedImage -> {
+            if (imagePath.equals(shownProfilePicturePath)) {
+                showImage(loadedImage);
+            }
+        }, () -> {
+            if (imagePath.equals(shownProfilePicturePath)) {
+                resetMissingProfilePicture(imagePath);
+            }
+        });
+        showImage(image != null ? image : profilePictureCache.getDefaultImage());
     }
 
     /**
-     * @return an {@code Image} by fetching from the provided image path.
+     * Shows the default picture in place of the missing picture file at {@code imagePath}, and gives the applicant
+     * the default picture if the file is still theirs.
      */
-    private Image fetchImage(String imagePath) {
-        File file = new File(imagePath);
-        Image image;
-        if (file.exists()) {
-            image = new Image(file.toURI().toString());
-        } else {
-            // file doesn't exist if
-            // the applicant profile picture got corrupted
-            // OR
-            // the applicant profile picture is the default one
+    private void resetMissingProfilePicture(String imagePath) {
+        // the file doesn't exist if the applicant profile picture got corrupted
+        if (imagePath.equals(this.applicant.getProfilePicturePath())) {
             this.applicant.setProfilePicturePath(DEFAULT_PROFILE_PIC);
-            InputStream profilePicStream = MainApp.class.getResourceAsStream(DEFAULT_PROFILE_PIC);
-            image = new Image(Objects.requireNonNull(
-                    profilePicStream,
-                    "Default profile picture resource not found: " + DEFAULT_PROFILE_PIC));
+            mainWindow.markPersonModified(this.applicant);
+            // rendering must not write to the disk itself, the fix-up is saved together with any others
+            mainWindow.scheduleSaveAddressBook();
         }
-        return image;
+        shownProfilePicturePath = DEFAULT_PROFILE_PIC;
+        showImage(mainWindow.getProfilePictureCache().getDefaultImage());
+    }
+
+    /**
+     * Shows {@code image} in the {@code profileImageView}, cropped to fit.
+     */
+    private void showImage(Image image) {
+        // crop incoming image to fit the imageView
+        this.cropImage(image);
+
+        profileImageView.setImage(image);
     }
 
     /**
@@ -222,6 +274,7 @@ public class PersonCard extends UiPart<Region> {
         // Update applicant info
         applicant.deleteProfilePic();
         applicant.setProfilePicturePath(CUSTOM_PROFILE_PIC_FOLDER + savedFileName);
+        mainWindow.markPersonModified(applicant);
 
         // Save changes in the applicant's profile pic path
         mainWindow.saveAddressBook();
@@ -31,6 +31,9 @@ public class PersonListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Applicant} using a {@code PersonCard}.
      */
     class PersonListViewCell extends ListCell<Applicant> {
+        // created on first use and rebound to whichever applicant this cell shows afterwards
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Applicant applicant, boolean empty) {
             super.updateItem(applicant, empty);
@@ -39,7 +42,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(PersonCard.createPersonCard(mainWindow, applicant, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard(mainWindow);
+                }
+                personCard.bind(applicant, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
         }
     }
@@ -0,0 +1,226 @@
+package seedu.address.ui;
+
+import static seedu.address.ui.UiManager.DEFAULT_PROFILE_PIC;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import seedu.address.MainApp;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Caches the decoded profile pictures shown by {@code PersonCard}s.
+ * <p>
+ * Pictures are looked up and decoded at thumbnail size on a background thread, and kept in least-recently-used
+ * order, up to a total size of decoded pixels. An entry remembers the last modified time of the file, so that a
+ * picture that is replaced on disk is decoded again. The bundled default picture is decoded once and shared by
+ * every card.
+ * <p>
+ * Apart from the loading, every method must be called on the JavaFX application thread.
+ */
+public class ProfilePictureCache {
+
+    /** Width and height of the box that decoded pictures fit in, twice the size they are shown at. */
+    public static final double THUMBNAIL_SIZE = 160;
+    public static final long DEFAULT_MAX_PIXEL_BYTES = 64L * 1024 * 1024;
+
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(ProfilePictureCache.class);
+
+    private final long maxPixelBytes;
+    private final Image defaultImage;
+    private final ExecutorService loader;
+
+    // the latest decoded version of each file, by path
+    private final LinkedHashMap<String, CachedPicture> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<CacheKey, List<Consumer<Image>>> pendingDecodes = new HashMap<>();
+    private long cachedPixelBytes = 0;
+
+    /**
+     * Creates a {@code ProfilePictureCache} that holds up to {@code maxPixelBytes} of decoded pixels.
+     */
+    public ProfilePictureCache(long maxPixelBytes) {
+        this.maxPixelBytes = maxPixelBytes;
+        InputStream profilePicStream = MainApp.class.getResourceAsStream(DEFAULT_PROFILE_PIC);
+        this.defaultImage = new Image(Objects.requireNonNull(
+                profilePicStream,
+                "Default profile picture resource not found: " + DEFAULT_PROFILE_PIC));
+        this.loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "profile-picture-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public ProfilePictureCache() {
+        this(DEFAULT_MAX_PIXEL_BYTES);
+    }
+
+    public Image getDefaultImage() {
+        return defaultImage;
+    }
+
+    /**
+     * Returns the decoded picture in the file at {@code path} if it is cached, otherwise returns null.
+     * <p>
+     * Either way, the file is then looked up in the background, as the file system is not touched on the JavaFX
+     * application thread. Back on the JavaFX application thread, {@code onMissing} is called if the file does not
+     * exist. Otherwise, unless the returned picture is still up to date, the file is decoded and {@code onLoaded} is
+     * called with the picture, or with the default picture if the file could not be decoded.
+     */
+    public Image getOrLoad(String path, Consumer<Image> onLoaded, Runnable onMissing) {
+        CachedPicture cached = cache.get(path);
+        Image cachedImage = cached == null ? null : cached.image;
+
+        loader.execute(() -> {
+            File file = new File(path);
+            if (!file.exists()) {
+                Platform.runLater(onMissing);
+                return;
+            }
+            CacheKey key = new CacheKey(path, file.lastModified());
+            Platform.runLater(() -> onFileFound(key, file, cachedImage, onLoaded));
+        });
+        return cachedImage;
+    }
+
+    /**
+     * Passes the picture for {@code key} to {@code onLoaded}, unless it is {@code shownImage}, decoding it first if
+     * it is not cached.
+     */
+    private void onFileFound(CacheKey key, File file, Image shownImage, Consumer<Image> onLoaded) {
+        CachedPicture cached = cache.get(key.path);
+        if (cached != null && cached.lastModified == key.lastModified) {
+            if (cached.image != shownImage) {
+                onLoaded.accept(cached.image);
+            }
+            return;
+        }
+
+        List<Consumer<Image>> waiting = pendingDecodes.get(key);
+        if (waiting != null) {
+            // the file is being decoded already, share the result
+            waiting.add(onLoaded);
+            return;
+        }
+        waiting = new ArrayList<>();
+        waiting.add(onLoaded);
+        pendingDecodes.put(key, waiting);
+
+        loader.execute(() -> {
+            Image image = decode(file);
+            Platform.runLater(() -> onDecodingDone(key, image));
+        });
+    }
+
+    /**
+     * Decodes {@code file} to a thumbnail, or returns null if it cannot be decoded.
+     */
+    private Image decode(File file) {
+        Image image = new Image(file.toURI().toString(), THUMBNAIL_SIZE, THUMBNAIL_SIZE, true, true, false);
+        if (image.isError()) {
+            logger.info("Could not decode profile picture " + file + ", showing the default picture instead");
+            return null;
+        }
+        return image;
+    }
+
+    private void onDecodingDone(CacheKey key, Image image) {
+        List<Consumer<Image>> waiting = pendingDecodes.remove(key);
+        if (image == null) {
+            image = defaultImage;
+        } else {
+            put(key, image);
+        }
+        for (Consumer<Image> onDecoded : waiting) {
+            onDecoded.accept(image);
+        }
+    }
+
+    /**
+     * Adds {@code image} to the cache and evicts the least recently used pictures until the cache fits its bound.
+     */
+    private void put(CacheKey key, Image image) {
+        // older versions of the same file can never be hit again
+        CachedPicture replaced = cache.put(key.path, new CachedPicture(key.lastModified, image));
+        if (replaced != null) {
+            cachedPixelBytes -= getPixelBytes(replaced.image);
+        }
+        cachedPixelBytes += getPixelBytes(image);
+
+        Iterator<Map.Entry<String, CachedPicture>> entries = cache.entrySet().iterator();
+        while (cachedPixelBytes > maxPixelBytes && entries.hasNext()) {
+            Map.Entry<String, CachedPicture> eldest = entries.next();
+            if (eldest.getKey().equals(key.path)) {
+                // the picture just decoded stays, even if it alone is larger than the bound
+                continue;
+            }
+            cachedPixelBytes -= getPixelBytes(eldest.getValue().image);
+            entries.remove();
+        }
+    }
+
+    private static long getPixelBytes(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * The decoded picture of one version of a picture file.
+     */
+    private static class CachedPicture {
+        private final long lastModified;
+        private final Image image;
+
+        CachedPicture(long lastModified, Image image) {
+            this.lastModified = lastModified;
+            this.image = image;
+        }
+    }
+
+    /**
+     * Identifies one version of a picture file.
+     */
+    private static class CacheKey {
+        private final String path;
+        private final long lastModified;
+
+        CacheKey(String path, long lastModified) {
+            this.path = path;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof CacheKey)) {
+                return false;
+            }
+
+            CacheKey otherKey = (CacheKey) other;
+            return path.equals(otherKey.path) && lastModified == otherKey.lastModified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, lastModified);
+        }
+    }
+}
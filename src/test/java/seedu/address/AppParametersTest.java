@@ -39,10 +39,37 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validCommandFilePath_success() {
+        parametersStub.namedParameters.put("commands", "commands.txt");
+        expected.setCommandFilePath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidCommandFilePath_success() {
+        parametersStub.namedParameters.put("commands", "a\0");
+        expected.setCommandFilePath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_commandLineArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setCommandFilePath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse("--headless", "--config=config.json", "--commands=commands.txt"));
+    }
+
+    @Test
+    public void parse_argumentsWithoutValue_ignored() {
+        assertEquals(expected, AppParameters.parse("--config", "commands=commands.txt", "--=config.json"));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", commandFilePath=" + appParameters.getCommandFilePath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +93,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different command file path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setCommandFilePath(Paths.get("commands.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
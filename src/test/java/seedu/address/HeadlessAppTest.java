@@ -0,0 +1,116 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.JOB_POSITION_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.STATUS_DESC_AMY;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+public class HeadlessAppTest {
+
+    private static final String ADD_COMMAND_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + JOB_POSITION_DESC_AMY + STATUS_DESC_AMY + ADDRESS_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private AppParameters appParameters;
+    private Path addressBookFilePath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        Path userPrefsFilePath = temporaryFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        Path configFilePath = temporaryFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFilePath);
+
+        appParameters = new AppParameters();
+        appParameters.setConfigPath(configFilePath);
+    }
+
+    @Test
+    public void run_commandFile_executedAndSaved() throws Exception {
+        Path commandFilePath = temporaryFolder.resolve("commands.txt");
+        Files.write(commandFilePath, List.of(ADD_COMMAND_AMY, ListCommand.COMMAND_WORD));
+        appParameters.setCommandFilePath(commandFilePath);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(""));
+        assertTrue(getOutput(out).endsWith(ListCommand.MESSAGE_SUCCESS + System.lineSeparator()));
+        assertEquals("", getOutput(err));
+        assertEquals(1, new JsonAddressBookStorage(addressBookFilePath).readAddressBook().get()
+                .getPersonList().size());
+    }
+
+    @Test
+    public void run_standardInput_executedAndSaved() throws Exception {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(ADD_COMMAND_AMY + "\n"));
+        assertEquals(1, new JsonAddressBookStorage(addressBookFilePath).readAddressBook().get()
+                .getPersonList().size());
+    }
+
+    @Test
+    public void run_failingCommand_nothingSaved() {
+        assertEquals(HeadlessApp.EXIT_FAILURE, run(ADD_COMMAND_AMY + "\nunknownCommand\n"));
+        assertEquals("", getOutput(out));
+        assertTrue(getOutput(err).contains(MESSAGE_UNKNOWN_COMMAND));
+        assertFalse(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void run_missingCommandFile_failure() {
+        appParameters.setCommandFilePath(temporaryFolder.resolve("missing.txt"));
+        assertEquals(HeadlessApp.EXIT_FAILURE, run(""));
+        assertFalse(getOutput(err).isEmpty());
+    }
+
+    @Test
+    public void run_invalidDataFile_nothingExecuted() throws IOException {
+        Files.writeString(addressBookFilePath, "not json");
+        assertEquals(HeadlessApp.EXIT_FAILURE, run(ADD_COMMAND_AMY + "\n"));
+        assertEquals("not json", Files.readString(addressBookFilePath));
+    }
+
+    private int run(String input) {
+        InputStream in = new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+        return new HeadlessApp(appParameters, in, new PrintStream(out, true), new PrintStream(err, true)).run();
+    }
+
+    private static String getOutput(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8);
+    }
+}
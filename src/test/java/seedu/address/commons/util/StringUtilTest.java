@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -121,6 +122,54 @@ public class StringUtilTest {
 
         // Matches multiple words in sentence
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
+
+        // Words separated by whitespace other than spaces
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbBb\nccc", "bbb"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\tbbb", "aaabbb"));
+    }
+
+    //---------------- Tests for toSortKey --------------------------------------
+
+    @Test
+    public void toSortKey_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toSortKey(null));
+    }
+
+    @Test
+    public void toSortKey_keysCompared_caseSensitiveLexicographicOrder() {
+        assertEquals("", StringUtil.toSortKey(""));
+        assertEquals("aAbb", StringUtil.toSortKey("Ab"));
+
+        // the first characters that differ are compared ignoring case
+        assertTrue(StringUtil.toSortKey("ab").compareTo(StringUtil.toSortKey("Bc")) < 0);
+        assertTrue(StringUtil.toSortKey("Ba").compareTo(StringUtil.toSortKey("ab")) > 0);
+
+        // then upper case first, whatever follows
+        assertTrue(StringUtil.toSortKey("Ab").compareTo(StringUtil.toSortKey("ab")) < 0);
+        assertTrue(StringUtil.toSortKey("Ab").compareTo(StringUtil.toSortKey("aa")) < 0);
+
+        // digits come before letters
+        assertTrue(StringUtil.toSortKey("9").compareTo(StringUtil.toSortKey("A")) < 0);
+
+        // a string comes before the longer strings it starts
+        assertTrue(StringUtil.toSortKey("Al").compareTo(StringUtil.toSortKey("Alice")) < 0);
+        assertTrue(StringUtil.toSortKey("al").compareTo(StringUtil.toSortKey("ALICE")) > 0);
+    }
+
+    //---------------- Tests for isAlphanumericWithSpaces --------------------------------------
+
+    @Test
+    public void isAlphanumericWithSpaces_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isAlphanumericWithSpaces(null));
+    }
+
+    @Test
+    public void isAlphanumericWithSpaces_sameAsRegex() {
+        String regex = "[\\p{Alnum}][\\p{Alnum} ]*";
+        for (String test : new String[] {"", " ", " a", "a", "Z9", "a b", "a  b ", "a_b", "a-b", "a\tb", "a\nb",
+                "caf\u00e9", "\u0661", "a*", "^", "\u00c0b"}) {
+            assertEquals(test.matches(regex), StringUtil.isAlphanumericWithSpaces(test), test);
+        }
     }
 
     //---------------- Tests for getDetails --------------------------------------
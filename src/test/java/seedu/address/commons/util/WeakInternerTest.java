@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    @Test
+    public void constructor_nullFactory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInterner<>(null));
+    }
+
+    @Test
+    public void intern_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInterner<>(StringBuilder::new).intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_sameInstance() {
+        WeakInterner<StringBuilder> interner = new WeakInterner<>(StringBuilder::new);
+        StringBuilder first = interner.intern("value");
+        assertSame(first, interner.intern(new String("value")));
+        assertNotSame(first, interner.intern("other value"));
+    }
+
+    @Test
+    public void intern_factoryThrows_exceptionThrownAndNothingInterned() {
+        WeakInterner<Integer> interner = new WeakInterner<>(Integer::valueOf);
+        assertThrows(NumberFormatException.class, () -> interner.intern("not a number"));
+        assertEquals(Integer.valueOf(1), interner.intern("1"));
+    }
+
+    @Test
+    public void intern_fromManyThreads_sameInstance() {
+        WeakInterner<StringBuilder> interner = new WeakInterner<>(StringBuilder::new);
+        List<StringBuilder> instances = IntStream.range(0, 10000).parallel()
+                .mapToObj(i -> interner.intern("value " + (i % 10)))
+                .collect(Collectors.toList());
+        for (int i = 0; i < instances.size(); i++) {
+            assertSame(instances.get(i % 10), instances.get(i));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.JOB_POSITION_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.STATUS_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandFileRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void readCommands_blankLinesAndComments_skipped() throws IOException {
+        Path commandFile = temporaryFolder.resolve("commands.txt");
+        Files.write(commandFile, List.of("# set up", "  list  ", "", "   ", "clear", "  # done"));
+        assertEquals(List.of("list", "clear"), CommandFileRunner.readCommands(commandFile));
+    }
+
+    @Test
+    public void readCommands_reader_readUntilEnd() throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader("list\n# comment\n\n  clear \n"));
+        assertEquals(List.of("list", "clear"), CommandFileRunner.readCommands(reader));
+    }
+
+    @Test
+    public void readCommands_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () -> CommandFileRunner.readCommands(temporaryFolder.resolve("missing.txt")));
+    }
+
+    @Test
+    public void run_validCommands_executedAsBatch() throws Exception {
+        Model model = new ModelManager();
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Path commandFile = temporaryFolder.resolve("commands.txt");
+        Files.write(commandFile, List.of(ListCommand.COMMAND_WORD, "# add Amy", AddCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + JOB_POSITION_DESC_AMY + STATUS_DESC_AMY + ADDRESS_DESC_AMY));
+
+        CommandFileRunner runner = new CommandFileRunner(new LogicManager(model, storage));
+        List<CommandResult> results = runner.run(commandFile);
+        assertEquals(2, results.size());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, results.get(0).getFeedbackToUser());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+}
@@ -1,29 +1,47 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.JOB_POSITION_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.JOB_POSITION_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.STATUS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.STATUS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDED_TIME_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MigrateCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -31,6 +49,8 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.SortCriterion;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -43,6 +63,11 @@ public class LogicManagerTest {
     @TempDir
     public Path temporaryFolder;
 
+    private static final String ADD_COMMAND_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + JOB_POSITION_DESC_AMY + STATUS_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String ADD_COMMAND_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB
+            + EMAIL_DESC_BOB + JOB_POSITION_DESC_BOB + STATUS_DESC_BOB + ADDRESS_DESC_BOB;
+
     private Model model = new ModelManager();
     private Logic logic;
 
@@ -73,6 +98,47 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_migrateCommand_savesInNewFormat() throws Exception {
+        model.setAddressBookFilePath(temporaryFolder.resolve("addressBook.json"));
+        setUp();
+
+        logic.execute(MigrateCommand.COMMAND_WORD + " binary");
+
+        Path binaryPath = temporaryFolder.resolve("addressBook.bin");
+        assertEquals(binaryPath, model.getAddressBookFilePath());
+        assertEquals(model.getAddressBook(),
+                new BinaryAddressBookStorage(binaryPath).readAddressBook().get());
+        assertEquals(binaryPath, new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))
+                .readUserPrefs().get().getAddressBookFilePath());
+    }
+
+    @Test
+    public void execute_unchangedAddressBook_doesNotSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(addressBookPath));
+
+        Files.delete(addressBookPath);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+
+        model.addPerson(AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void execute_addressBookMarkedSaved_doesNotSaveUntilChanged() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic.markAddressBookSaved();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+
+        logic.execute(ADD_COMMAND_AMY);
+        assertTrue(Files.exists(addressBookPath));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -85,6 +151,112 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void executeBatch_validCommands_allAppliedAndSavedOnce() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        int[] notificationCount = {0};
+        logic.getFilteredPersonList().addListener((ListChangeListener<Applicant>) change -> notificationCount[0]++);
+
+        List<CommandResult> results =
+                logic.executeBatch(List.of(ADD_COMMAND_AMY, ADD_COMMAND_BOB, ListCommand.COMMAND_WORD));
+
+        assertEquals(3, results.size());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, results.get(2).getFeedbackToUser());
+        assertEquals(2, model.getFilteredPersonList().size());
+        assertEquals(1, notificationCount[0]);
+        assertEquals(1, saveCount[0]);
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void executeBatch_failingCommand_nothingApplied() {
+        String deleteCommand = "delete id/9";
+        assertThrows(CommandException.class, String.format(LogicManager.MESSAGE_BATCH_FAILURE, 2, deleteCommand,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), () -> logic.executeBatch(List.of(ADD_COMMAND_AMY,
+                deleteCommand, ADD_COMMAND_BOB)));
+        assertEquals(new ModelManager(), model);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void executeBatch_invalidCommand_nothingApplied() {
+        String invalidCommand = "uicfhmowqewca";
+        assertThrows(ParseException.class, String.format(LogicManager.MESSAGE_BATCH_FAILURE, 2, invalidCommand,
+                MESSAGE_UNKNOWN_COMMAND), () -> logic.executeBatch(List.of(ADD_COMMAND_AMY, invalidCommand)));
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void executeBatch_failingCommandAfterPagedSearch_viewRestored() {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+        model.sortPersons(List.of(new SortCriterion(PREFIX_NAME, false)));
+
+        String invalidCommand = "uicfhmowqewca";
+        assertThrows(ParseException.class, () -> logic.executeBatch(List.of(
+                SearchCommand.COMMAND_WORD + NAME_DESC_AMY + " " + PREFIX_LIMIT + "1",
+                SortCommand.COMMAND_WORD + " " + PREFIX_NAME, invalidCommand)));
+
+        assertEquals(List.of(BOB, AMY), model.getFilteredPersonList());
+        assertEquals(2, model.getMatchedPersonCount());
+    }
+
+    @Test
+    public void executeBatch_failingCommandAfterDelete_profilePictureKept() throws Exception {
+        Path profilePicture = Files.createFile(temporaryFolder.resolve("amy.png"));
+        Applicant amy = new PersonBuilder(AMY).build();
+        amy.setProfilePicturePath(profilePicture.toString());
+        model.addPerson(amy);
+
+        String invalidCommand = "uicfhmowqewca";
+        assertThrows(ParseException.class, () -> logic.executeBatch(List.of("delete id/1 --force", invalidCommand)));
+
+        assertTrue(Files.exists(profilePicture));
+        assertEquals(profilePicture.toString(),
+                model.getAddressBook().getPersonList().get(0).getProfilePicturePath());
+    }
+
+    @Test
+    public void executeBatch_deleteCommitted_profilePictureDeleted() throws Exception {
+        Path profilePicture = Files.createFile(temporaryFolder.resolve("amy.png"));
+        Applicant amy = new PersonBuilder(AMY).build();
+        amy.setProfilePicturePath(profilePicture.toString());
+        model.addPerson(amy);
+
+        logic.executeBatch(List.of("delete id/1 --force"));
+
+        assertFalse(Files.exists(profilePicture));
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void executeBatch_commandAsksForConfirmation_nothingApplied() {
+        String deleteCommand = "delete id/1";
+        assertThrows(CommandException.class, String.format(LogicManager.MESSAGE_BATCH_FAILURE, 2, deleteCommand,
+                LogicManager.MESSAGE_BATCH_CONFIRMATION), () -> logic.executeBatch(List.of(ADD_COMMAND_AMY,
+                deleteCommand)));
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void executeBatch_commandNeedsDialog_nothingApplied() {
+        String exportCommand = "export applicants.csv";
+        assertThrows(CommandException.class, String.format(LogicManager.MESSAGE_BATCH_FAILURE, 2, exportCommand,
+                LogicManager.MESSAGE_BATCH_UI_ONLY), () -> logic.executeBatch(List.of(ADD_COMMAND_AMY,
+                exportCommand)));
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
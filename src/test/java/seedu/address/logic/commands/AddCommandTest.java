@@ -10,21 +10,26 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.Prefix;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
+import seedu.address.model.PersonListView;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.Rating;
+import seedu.address.model.applicant.SortCriterion;
 import seedu.address.model.applicant.Status;
 import seedu.address.testutil.PersonBuilder;
 
@@ -121,11 +126,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookFormat getAddressBookFormat() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addPerson(Applicant applicant) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Applicant> applicants) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deferProfilePictureDeletions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyDeferredProfilePictureDeletions(boolean isCommitted) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -136,6 +166,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markAddressBookModified() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markPersonModified(Applicant applicant) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Applicant applicant) {
             throw new AssertionError("This method should not be called.");
@@ -157,7 +202,22 @@ public class AddCommandTest {
         }
 
         @Override
-        public void sortPersons(Prefix prefix, boolean isAscendingOrder) {
+        public void sortPersons(List<SortCriterion> criteria) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersonListPage(Page page) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void suspendFilteredPersonListNotifications() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void resumeFilteredPersonListNotifications() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -171,6 +231,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(List<? extends IdentifierPredicate> predicates, boolean isMatchAll) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Applicant setStatus(Applicant applicant, Status status) {
             throw new AssertionError("This method should not be called.");
@@ -181,6 +246,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getMatchedPersonCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonListView getPersonListView() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersonListView(PersonListView view) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Applicant setRating(Applicant applicant, Rating rating) {
             throw new AssertionError("This method should not be called.");
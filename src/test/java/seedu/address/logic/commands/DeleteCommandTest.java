@@ -23,6 +23,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Page;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.applicant.AfterDatePredicate;
 import seedu.address.model.applicant.Applicant;
@@ -240,4 +241,28 @@ public class DeleteCommandTest {
         model.updateFilteredPersonList(p -> false);
         assertTrue(model.getFilteredPersonList().isEmpty());
     }
+
+    /**
+     * EP: Predicate matching applicants that are not on the page of an earlier search, force delete
+     */
+    @Test
+    public void execute_predicateAfterPagedSearch_allMatchesDeleted() {
+        IdentifierPredicate predicate = new BeforeDatePredicate(LocalDateTime.now().plusDays(1));
+        List<Applicant> expectedToDelete = new ArrayList<>(model.getAddressBook().getPersonList());
+        // the page of an earlier search only shows one of the matches
+        model.updateFilteredPersonList(List.of(predicate), false);
+        model.setPersonListPage(new Page(0, 1));
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(predicate), true);
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_SUCCESS,
+                expectedToDelete.stream()
+                        .map(Messages::format)
+                        .collect(Collectors.joining("\n")));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        expectedToDelete.forEach(expectedModel::deletePerson);
+        expectedModel.updateFilteredPersonList(List.of(predicate), true);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
 }
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.List;
 
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 /**
@@ -57,6 +59,16 @@ public class ExportCommandTest {
         assertTrue(!c1.equals(c3)); // different value
         assertTrue(!c1.equals(null)); // null check
         assertTrue(!c1.equals(42)); // different type
+        assertTrue(!c1.equals(new ExportCommand("file1.csv", new File("file1.csv")))); // without dialog
+    }
+
+    /**
+     * Tests that only an export that asks where to save the file needs the app window.
+     */
+    @Test
+    public void requiresUi() {
+        assertTrue(new ExportCommand("file1.csv").requiresUi());
+        assertTrue(!new ExportCommand("file1.csv", new File("file1.csv")).requiresUi());
     }
 
     /**
@@ -76,6 +88,23 @@ public class ExportCommandTest {
         assertEquals(1, lines.size(), "CSV should contain only the header line");
     }
 
+    /**
+     * Tests that characters outside ASCII are written in UTF-8, whatever the default charset of the platform is.
+     */
+    @Test
+    public void execute_nonAsciiAddress_writtenInUtf8() throws Exception {
+        Model nonAsciiModel = new ModelManager();
+        nonAsciiModel.addPerson(new PersonBuilder().withAddress("Caf\u00e9 Stra\u00dfe 1").build());
+
+        File tempFile = File.createTempFile("utf8_export", ".csv");
+        tempFile.deleteOnExit();
+
+        new ExportCommand(tempFile.getAbsolutePath(), tempFile).execute(nonAsciiModel);
+
+        List<String> lines = Files.readAllLines(tempFile.toPath(), StandardCharsets.UTF_8);
+        assertTrue(lines.get(1).contains("Caf\u00e9 Stra\u00dfe 1"));
+    }
+
     /**
      * Tests that a file with a non-CSV extension (e.g. .txt) is accepted and content is correctly written.
      */
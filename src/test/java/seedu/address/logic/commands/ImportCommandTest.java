@@ -0,0 +1,161 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.applicant.Phone;
+import seedu.address.storage.CsvApplicantFormat;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = String.join(",", CsvApplicantFormat.HEADER);
+    private static final String VALID_ROW_JOHN =
+            "John Doe,johnd@example.com,98765432,\"311, Clementi Ave 2\",Frontend SWE,Pending Review,friends,,";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(new AddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_exportedFile_allApplicantsImported() throws Exception {
+        Path filePath = temporaryFolder.resolve("applicants.csv");
+        Model typicalModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new ExportCommand(filePath.toString(), filePath.toFile()).execute(typicalModel);
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        int size = typicalModel.getAddressBook().getPersonList().size();
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, size, size, "applicants.csv"),
+                result.getFeedbackToUser());
+        assertEquals(typicalModel.getAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_rejectedWithRowNumbers() throws Exception {
+        model.addPerson(ALICE);
+        Path filePath = writeFile(HEADER,
+                VALID_ROW_JOHN,
+                "Jane Doe,janed@example.com,12,Clementi Ave 3,Backend SWE,Pending Review,,,",
+                "Alice Copy," + ALICE.getEmail() + ",99999999,Clementi Ave 4,Backend SWE,Pending Review,,,",
+                "John Copy,johnc@example.com,98765432,Clementi Ave 5,Backend SWE,Pending Review,,,",
+                ",nameless@example.com,91234567,Clementi Ave 6,Backend SWE,Pending Review,,,");
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, 5, "applicants.csv")
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 3, Phone.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 4, AddCommand.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 5,
+                        String.format(ImportCommand.MESSAGE_DUPLICATE_ROW, 2))
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 6,
+                        String.format(CsvApplicantFormat.MISSING_FIELD_MESSAGE_FORMAT, "Name"));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_manyRejectedRows_onlyFirstRowsListed() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        int rowCount = ImportCommand.MAX_REJECTED_ROWS_SHOWN + 3;
+        for (int i = 0; i < rowCount; i++) {
+            lines.add("John Doe,invalid email,98765432,Clementi Ave 2,Frontend SWE,Pending Review,,,");
+        }
+        Path filePath = writeFile(lines.toArray(new String[0]));
+
+        String feedback = new ImportCommand(filePath).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_REJECTED_ROWS, 3)));
+        assertEquals(ImportCommand.MAX_REJECTED_ROWS_SHOWN,
+                feedback.lines().filter(line -> line.startsWith("Row ")).count());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_rowsInSeveralChunks_duplicatesFoundAcrossChunks() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        int rowCount = ImportCommand.CHUNK_SIZE + 2;
+        for (int i = 0; i < rowCount; i++) {
+            lines.add(String.format("Applicant %1$d,applicant%1$d@example.com,9%2$07d,Clementi Ave 2,"
+                    + "Frontend SWE,Pending Review,,,", i, i));
+        }
+        lines.add(VALID_ROW_JOHN.replace("98765432", "90000000"));
+        Path filePath = writeFile(lines.toArray(new String[0]));
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, rowCount, rowCount + 1,
+                "applicants.csv") + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_ROW, rowCount + 2,
+                String.format(ImportCommand.MESSAGE_DUPLICATE_ROW, 2));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(rowCount, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_missingRequiredColumn_throwsCommandException() throws Exception {
+        Path filePath = writeFile("Name,Email,Phone,Address,Status", "John Doe,johnd@example.com,98765432,a,b");
+        assertThrows(CommandException.class, String.format(CsvApplicantFormat.MISSING_COLUMN_MESSAGE_FORMAT,
+                "Job Position"), () -> new ImportCommand(filePath).execute(model));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path filePath = writeFile();
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_EMPTY_FILE, filePath), () ->
+                new ImportCommand(filePath).execute(model));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = temporaryFolder.resolve("missing.csv");
+        assertThrows(CommandException.class, () -> new ImportCommand(filePath).execute(model));
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Paths.get("first.csv"));
+        ImportCommand importSecondCommand = new ImportCommand(Paths.get("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(Paths.get("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    private Path writeFile(String... lines) throws Exception {
+        Path filePath = temporaryFolder.resolve("applicants.csv");
+        Files.write(filePath, List.of(lines));
+        return filePath;
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class MigrateCommandTest {
+
+    @Test
+    public void execute_toBinary_updatesFormatAndFilePath() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBookFilePath(Paths.get("data", "addressbook.json"));
+        long version = model.getAddressBookVersion();
+
+        CommandResult result = new MigrateCommand(AddressBookFormat.BINARY).execute(model);
+
+        Path expectedPath = Paths.get("data", "addressbook.bin");
+        assertEquals(String.format(MigrateCommand.MESSAGE_SUCCESS, "binary", expectedPath),
+                result.getFeedbackToUser());
+        assertEquals(AddressBookFormat.BINARY, model.getAddressBookFormat());
+        assertEquals(expectedPath, model.getAddressBookFilePath());
+        assertNotEquals(version, model.getAddressBookVersion());
+    }
+
+    @Test
+    public void execute_toJson_updatesFormatAndFilePath() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBookFormat(AddressBookFormat.BINARY);
+        model.setAddressBookFilePath(Paths.get("data", "addressbook.bin"));
+
+        new MigrateCommand(AddressBookFormat.JSON).execute(model);
+
+        assertEquals(AddressBookFormat.JSON, model.getAddressBookFormat());
+        assertEquals(Paths.get("data", "addressbook.json"), model.getAddressBookFilePath());
+    }
+
+    @Test
+    public void execute_sameFormat_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new MigrateCommand(AddressBookFormat.JSON), model,
+                String.format(MigrateCommand.MESSAGE_ALREADY_IN_FORMAT, "json"));
+    }
+
+    @Test
+    public void equals() {
+        MigrateCommand toBinary = new MigrateCommand(AddressBookFormat.BINARY);
+
+        assertTrue(toBinary.equals(toBinary));
+        assertTrue(toBinary.equals(new MigrateCommand(AddressBookFormat.BINARY)));
+        assertFalse(toBinary.equals(null));
+        assertFalse(toBinary.equals(1));
+        assertFalse(toBinary.equals(new MigrateCommand(AddressBookFormat.JSON)));
+    }
+}
@@ -10,14 +10,19 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Page;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.BeforeDatePredicate;
 import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.NameMatchesKeywordPredicate;
 import seedu.address.model.applicant.Rating;
@@ -92,6 +97,22 @@ public class RateCommandTest {
         assertFalse(validRateCommand.equals(differentRatingRateCommand));
     }
 
+    @Test
+    public void execute_predicateAfterPagedSearch_allMatchesCounted() {
+        IdentifierPredicate predicate = new BeforeDatePredicate(LocalDateTime.now().plusDays(1));
+        // the page of an earlier search only shows one of the matches
+        model.updateFilteredPersonList(List.of(predicate), false);
+        model.setPersonListPage(new Page(0, 1));
+        RateCommand rateCommand = new RateCommand(predicate, new Rating("4"));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredPersonList(predicate);
+        String expectedMessage = String.format(RateCommand.MESSAGE_MULTIPLE_MATCHES,
+                model.getAddressBook().getPersonList().size());
+
+        assertCommandSuccess(rateCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void toStringMethod() {
         // rate by index
@@ -3,8 +3,11 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_EMPTY_PAGE;
+import static seedu.address.logic.Messages.MESSAGE_PAGE_OVERVIEW;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.GABRIELLA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Page;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.NameMatchesKeywordPredicate;
@@ -52,6 +56,9 @@ public class SearchCommandTest {
 
         // different applicant -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different page -> returns false
+        assertFalse(findFirstCommand.equals(new SearchCommand(firstPredicate, new Page(0, 10))));
     }
 
     @Test
@@ -64,11 +71,38 @@ public class SearchCommandTest {
         assertEquals(Arrays.asList(GABRIELLA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_page_onlyPageShown() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(MESSAGE_PAGE_OVERVIEW, 2, 2);
+        List<IdentifierPredicate> predicates = List.of(new NameMatchesKeywordPredicate("Benson Meier"),
+                new NameMatchesKeywordPredicate("Daniel Meier"));
+        SearchCommand command = new SearchCommand(predicates, new Page(1, 1));
+        expectedModel.updateFilteredPersonList(predicates, false);
+        expectedModel.setPersonListPage(new Page(1, 1));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_pageAfterLastMatch_emptyPageShown() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(MESSAGE_EMPTY_PAGE, 5);
+        List<IdentifierPredicate> predicates = List.of(new NameMatchesKeywordPredicate("Benson Meier"),
+                new NameMatchesKeywordPredicate("Daniel Meier"));
+        SearchCommand command = new SearchCommand(predicates, new Page(5, 1));
+        expectedModel.updateFilteredPersonList(predicates, false);
+        expectedModel.setPersonListPage(new Page(5, 1));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         List<IdentifierPredicate> predicate = Arrays.asList(new NameMatchesKeywordPredicate("keyword"));
         SearchCommand searchCommand = new SearchCommand(predicate);
-        String expected = SearchCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = SearchCommand.class.getCanonicalName() + "{predicate=" + predicate + ", page="
+                + Page.ALL + "}";
         assertEquals(expected, searchCommand.toString());
     }
 
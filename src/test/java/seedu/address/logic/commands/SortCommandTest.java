@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_CRITERIA_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_PAGE_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
@@ -12,8 +13,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_POSITION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -21,7 +25,9 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Page;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.applicant.SortCriterion;
 
 public class SortCommandTest {
     private Model model;
@@ -34,14 +40,12 @@ public class SortCommandTest {
     public void execute_sortByNameInAscendingOder_success() {
         Prefix prefix = PREFIX_NAME;
         boolean isAscendingOrder = true;
-        String order = "ascending order";
         try {
             SortCommand sortCommand = new SortCommand(prefix, isAscendingOrder);
-            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS,
-                    sortCommand.getCriteria(), order);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getDescription());
 
             Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-            expectedModel.sortPersons(prefix, isAscendingOrder);
+            expectedModel.sortPersons(List.of(new SortCriterion(prefix, isAscendingOrder)));
 
             assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
         } catch (CommandException e) {
@@ -52,13 +56,12 @@ public class SortCommandTest {
     public void execute_sortByNameInDescendingOder_success() {
         Prefix prefix = PREFIX_NAME;
         boolean isAscendingOrder = false;
-        String order = "descending order";
         try {
             SortCommand sortCommand = new SortCommand(prefix, isAscendingOrder);
-            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getCriteria(), order);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getDescription());
 
             Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-            expectedModel.sortPersons(prefix, isAscendingOrder);
+            expectedModel.sortPersons(List.of(new SortCriterion(prefix, isAscendingOrder)));
 
             assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
         } catch (CommandException e) {
@@ -69,13 +72,12 @@ public class SortCommandTest {
     public void execute_sortByEmailAddressInAscendingOrder_success() {
         Prefix prefix = PREFIX_EMAIL;
         boolean isAscendingOrder = true;
-        String order = "ascending order";
         try {
             SortCommand sortCommand = new SortCommand(prefix, isAscendingOrder);
-            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getCriteria(), order);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getDescription());
 
             Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-            expectedModel.sortPersons(prefix, isAscendingOrder);
+            expectedModel.sortPersons(List.of(new SortCriterion(prefix, isAscendingOrder)));
 
             assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
         } catch (CommandException e) {
@@ -87,13 +89,12 @@ public class SortCommandTest {
     public void execute_sortByEmailAddressInDescendingOrder_success() {
         Prefix prefix = PREFIX_EMAIL;
         boolean isAscendingOrder = false;
-        String order = "descending order";
         try {
             SortCommand sortCommand = new SortCommand(prefix, isAscendingOrder);
-            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getCriteria(), order);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getDescription());
 
             Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-            expectedModel.sortPersons(prefix, isAscendingOrder);
+            expectedModel.sortPersons(List.of(new SortCriterion(prefix, isAscendingOrder)));
 
             assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
         } catch (CommandException e) {
@@ -105,13 +106,12 @@ public class SortCommandTest {
     public void execute_sortByJobPositionInAscendingOrder_success() {
         Prefix prefix = PREFIX_JOB_POSITION;
         boolean isAscendingOrder = true;
-        String order = "ascending order";
         try {
             SortCommand sortCommand = new SortCommand(prefix, isAscendingOrder);
-            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getCriteria(), order);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getDescription());
 
             Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-            expectedModel.sortPersons(prefix, isAscendingOrder);
+            expectedModel.sortPersons(List.of(new SortCriterion(prefix, isAscendingOrder)));
 
             assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
         } catch (CommandException e) {
@@ -123,13 +123,12 @@ public class SortCommandTest {
     public void execute_sortByJobPositionInDescendingOrder_success() {
         Prefix prefix = PREFIX_JOB_POSITION;
         boolean isAscendingOrder = false;
-        String order = "descending order";
         try {
             SortCommand sortCommand = new SortCommand(prefix, isAscendingOrder);
-            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getCriteria(), order);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getDescription());
 
             Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-            expectedModel.sortPersons(prefix, isAscendingOrder);
+            expectedModel.sortPersons(List.of(new SortCriterion(prefix, isAscendingOrder)));
 
             assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
         } catch (CommandException e) {
@@ -142,13 +141,12 @@ public class SortCommandTest {
     public void execute_sortByStatusInAscendingOrder_success() {
         Prefix prefix = PREFIX_STATUS;
         boolean isAscendingOrder = true;
-        String order = "ascending order";
         try {
             SortCommand sortCommand = new SortCommand(prefix, isAscendingOrder);
-            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getCriteria(), order);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getDescription());
 
             Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-            expectedModel.sortPersons(prefix, isAscendingOrder);
+            expectedModel.sortPersons(List.of(new SortCriterion(prefix, isAscendingOrder)));
 
             assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
         } catch (CommandException e) {
@@ -160,13 +158,12 @@ public class SortCommandTest {
     public void execute_sortByStatusInDescendingOrder_success() {
         Prefix prefix = PREFIX_STATUS;
         boolean isAscendingOrder = false;
-        String order = "descending order";
         try {
             SortCommand sortCommand = new SortCommand(prefix, isAscendingOrder);
-            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getCriteria(), order);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getDescription());
 
             Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-            expectedModel.sortPersons(prefix, isAscendingOrder);
+            expectedModel.sortPersons(List.of(new SortCriterion(prefix, isAscendingOrder)));
 
             assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
         } catch (CommandException e) {
@@ -178,13 +175,12 @@ public class SortCommandTest {
     public void execute_sortByAddedTimeInAscendingOrder_success() {
         Prefix prefix = PREFIX_ADDED_TIME;
         boolean isAscendingOrder = true;
-        String order = "ascending order";
         try {
             SortCommand sortCommand = new SortCommand(prefix, isAscendingOrder);
-            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getCriteria(), order);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getDescription());
 
             Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-            expectedModel.sortPersons(prefix, isAscendingOrder);
+            expectedModel.sortPersons(List.of(new SortCriterion(prefix, isAscendingOrder)));
 
             assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
         } catch (CommandException e) {
@@ -196,13 +192,12 @@ public class SortCommandTest {
     public void execute_sortByAddedTimeInDescendingOrder_success() {
         Prefix prefix = PREFIX_ADDED_TIME;
         boolean isAscendingOrder = false;
-        String order = "descending order";
         try {
             SortCommand sortCommand = new SortCommand(prefix, isAscendingOrder);
-            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getCriteria(), order);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getDescription());
 
             Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-            expectedModel.sortPersons(prefix, isAscendingOrder);
+            expectedModel.sortPersons(List.of(new SortCriterion(prefix, isAscendingOrder)));
 
             assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
         } catch (CommandException e) {
@@ -214,13 +209,12 @@ public class SortCommandTest {
     public void execute_sortByRatingInAscendingOrder_success() {
         Prefix prefix = PREFIX_RATING;
         boolean isAscendingOrder = true;
-        String order = "ascending order";
         try {
             SortCommand sortCommand = new SortCommand(prefix, isAscendingOrder);
-            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getCriteria(), order);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getDescription());
 
             Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-            expectedModel.sortPersons(prefix, isAscendingOrder);
+            expectedModel.sortPersons(List.of(new SortCriterion(prefix, isAscendingOrder)));
 
             assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
         } catch (CommandException e) {
@@ -231,13 +225,12 @@ public class SortCommandTest {
     public void execute_sortByRatingInDescendingOrder_success() {
         Prefix prefix = PREFIX_RATING;
         boolean isAscendingOrder = false;
-        String order = "descending order";
         try {
             SortCommand sortCommand = new SortCommand(prefix, isAscendingOrder);
-            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getCriteria(), order);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortCommand.getDescription());
 
             Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-            expectedModel.sortPersons(prefix, isAscendingOrder);
+            expectedModel.sortPersons(List.of(new SortCriterion(prefix, isAscendingOrder)));
 
             assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
         } catch (CommandException e) {
@@ -246,6 +239,54 @@ public class SortCommandTest {
 
     }
     @Test
+    public void execute_sortByMultipleCriteria_success() {
+        List<SortCriterion> criteria = List.of(new SortCriterion(PREFIX_STATUS, true),
+                new SortCriterion(PREFIX_RATING, false), new SortCriterion(PREFIX_ADDED_TIME, true));
+        try {
+            SortCommand sortCommand = new SortCommand(criteria, Page.ALL);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "application status in ascending "
+                    + "order, then rating in descending order, then added time in ascending order");
+
+            Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+            expectedModel.sortPersons(criteria);
+
+            assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
+        } catch (CommandException e) {
+            fail();
+        }
+    }
+    @Test
+    public void execute_sortWithPage_onlyPageShown() {
+        List<SortCriterion> criteria = List.of(new SortCriterion(PREFIX_RATING, false));
+        Page page = new Page(0, 1);
+        try {
+            SortCommand sortCommand = new SortCommand(criteria, page);
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "rating in descending order")
+                    + "\n" + String.format(MESSAGE_PAGE_OVERVIEW, 1, 1);
+
+            Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+            expectedModel.sortPersons(criteria);
+            expectedModel.setPersonListPage(page);
+
+            assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
+            assertEquals(List.of(BENSON), model.getFilteredPersonList());
+        } catch (CommandException e) {
+            fail();
+        }
+    }
+    @Test
+    public void execute_sortByRepeatedCriteria_throwCommandException() {
+        try {
+            new SortCommand(List.of(new SortCriterion(PREFIX_NAME, true), new SortCriterion(PREFIX_NAME, false)),
+                    Page.ALL);
+            fail();
+        } catch (CommandException e) {
+            String expectedExceptionMessage = String.format(
+                    MESSAGE_INVALID_CRITERIA_FORMAT, "sorting", SortCommand.MESSAGE_USAGE);
+            assertEquals(expectedExceptionMessage, e.getMessage());
+        }
+    }
+    @Test
     public void execute_sortByUnknownCriteria_throwCommandException() {
         // Undefined prefix
         Prefix prefix = new Prefix("z/ d/");
@@ -278,6 +319,9 @@ public class SortCommandTest {
             assertFalse(sortByNameCommand.equals(new SortCommand(PREFIX_STATUS, isAscendingOrder)));
             // different ascending order -> returns false
             assertFalse(sortByNameCommand.equals((new SortCommand(PREFIX_NAME, !isAscendingOrder))));
+            // more criteria -> returns false
+            assertFalse(sortByNameCommand.equals(new SortCommand(List.of(new SortCriterion(PREFIX_NAME, true),
+                    new SortCriterion(PREFIX_STATUS, true)), Page.ALL)));
         } catch (CommandException e) {
             fail();
         }
@@ -288,8 +332,8 @@ public class SortCommandTest {
             Prefix prefix = new Prefix("n/");
             boolean isAscendingOrder = true;
             SortCommand sortCommand = new SortCommand(prefix, isAscendingOrder);
-            String expected = SortCommand.class.getCanonicalName() + "{prefix=" + prefix + ", isAscendingOrder="
-                    + isAscendingOrder + "}";
+            String expected = SortCommand.class.getCanonicalName() + "{criteria=["
+                    + new SortCriterion(prefix, isAscendingOrder) + "], page=" + Page.ALL + "}";
             assertEquals(expected, sortCommand.toString());
         } catch (CommandException e) {
             fail();
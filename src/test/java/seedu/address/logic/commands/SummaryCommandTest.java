@@ -3,10 +3,13 @@ package seedu.address.logic.commands;
 import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Page;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.applicant.BeforeDatePredicate;
 import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.NameMatchesKeywordPredicate;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -44,4 +47,17 @@ public class SummaryCommandTest {
         assertNotEquals(findFirstCommand, findSecondCommand);
     }
 
+    @Test
+    public void execute_afterPagedSearch_allMatchesSummarized() throws Exception {
+        List<IdentifierPredicate> predicates = List.of(new BeforeDatePredicate(LocalDateTime.now().plusDays(1)));
+        // the page of an earlier search only shows one of the matches
+        model.updateFilteredPersonList(predicates, false);
+        model.setPersonListPage(new Page(0, 1));
+
+        int size = model.getAddressBook().getPersonList().size();
+        String feedback = new SummaryCommand(predicates).execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format("Summarized %1$d / %1$d Applicants", size)));
+        assertEquals(size, model.getFilteredPersonList().size());
+    }
+
 }
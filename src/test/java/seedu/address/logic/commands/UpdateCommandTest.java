@@ -10,14 +10,21 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Page;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.BeforeDatePredicate;
+import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.Status;
 
 /**
@@ -100,7 +107,29 @@ public class UpdateCommandTest {
 
     // ===== Predicate-based Update Tests =====
 
-    // Note: Add tests for predicate-based updates once implemented
+    /**
+     * EP: Predicate matching applicants that are not on the page of an earlier search, force update
+     */
+    @Test
+    public void execute_predicateAfterPagedSearch_allMatchesUpdated() {
+        IdentifierPredicate predicate = new BeforeDatePredicate(LocalDateTime.now().plusDays(1));
+        // the page of an earlier search only shows one of the matches
+        model.updateFilteredPersonList(List.of(predicate), false);
+        model.setPersonListPage(new Page(0, 1));
+        UpdateCommand updateCommand = new UpdateCommand(List.of(predicate), newStatus, true);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        for (Applicant applicant : List.copyOf(expectedModel.getAddressBook().getPersonList())) {
+            expectedModel.setStatus(applicant, newStatus);
+        }
+        expectedModel.updateFilteredPersonList(List.of(predicate), true);
+        String expectedMessage = String.format(UpdateCommand.MESSAGE_UPDATE_STATUS_SUCCESS,
+                expectedModel.getFilteredPersonList().stream()
+                        .map(Messages::format)
+                        .collect(Collectors.joining("\n")));
+
+        assertCommandSuccess(updateCommand, model, expectedMessage, expectedModel);
+    }
 
     // ===== Unit Tests =====
 
@@ -136,6 +136,24 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingCharacters_longestPrefixTaken() {
+        Prefix a = new Prefix("a/");
+        Prefix aft = new Prefix("aft/");
+        Prefix af = new Prefix("af");
+        String argsString = "preamble aft/ later a/ address af/ ambiguous af value aft/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, a, af, aft);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, aft, "later", "");
+        assertArgumentPresent(argMultimap, a, "address");
+        assertArgumentPresent(argMultimap, af, "/ ambiguous", "value");
+
+        // the same prefixes in another order are tokenized the same way
+        ArgumentMultimap reordered = ArgumentTokenizer.tokenize(argsString, aft, a, af);
+        assertEquals(argMultimap.getAllValues(aft), reordered.getAllValues(aft));
+        assertEquals(argMultimap.getAllValues(af), reordered.getAllValues(af));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -3,6 +3,8 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.io.File;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ExportCommand;
@@ -30,6 +32,17 @@ public class ExportCommandParserTest {
         assertParseSuccess(parser, "  my_export.csv  ", new ExportCommand("my_export.csv"));
     }
 
+    /**
+     * Tests that the no-dialog flag makes the command write to the working directory.
+     */
+    @Test
+    public void parse_noDialogFlag_success() {
+        assertParseSuccess(parser, "applicants.csv --no-dialog",
+                new ExportCommand("applicants.csv", new File("applicants.csv")));
+        assertParseSuccess(parser, " --no-dialog applicants.csv",
+                new ExportCommand("applicants.csv", new File("applicants.csv")));
+    }
+
     /**
      * Tests that missing file name throws a parse exception.
      */
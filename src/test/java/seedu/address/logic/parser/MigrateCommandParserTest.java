@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.logic.commands.MigrateCommand;
+
+public class MigrateCommandParserTest {
+
+    private final MigrateCommandParser parser = new MigrateCommandParser();
+
+    @Test
+    public void parse_validFormat_success() {
+        assertParseSuccess(parser, " binary", new MigrateCommand(AddressBookFormat.BINARY));
+        assertParseSuccess(parser, " JSON ", new MigrateCommand(AddressBookFormat.JSON));
+        assertParseSuccess(parser, " mapped", new MigrateCommand(AddressBookFormat.MAPPED));
+    }
+
+    @Test
+    public void parse_invalidFormat_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MigrateCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " csv", expectedMessage);
+        assertParseFailure(parser, " binary json", expectedMessage);
+    }
+}
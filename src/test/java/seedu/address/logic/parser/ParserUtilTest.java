@@ -2,7 +2,11 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_LIMIT;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_OFFSET;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
@@ -14,6 +18,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Page;
 import seedu.address.model.applicant.Address;
 import seedu.address.model.applicant.Email;
 import seedu.address.model.applicant.Name;
@@ -56,6 +61,34 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parsePage_noLimitOrOffset_returnsAll() throws Exception {
+        assertEquals(Page.ALL,
+                ParserUtil.parsePage(ArgumentTokenizer.tokenize(" n/Alice", PREFIX_LIMIT, PREFIX_OFFSET)));
+    }
+
+    @Test
+    public void parsePage_validLimitAndOffset_success() throws Exception {
+        assertEquals(new Page(20, 10),
+                ParserUtil.parsePage(ArgumentTokenizer.tokenize(" lim/ 10 off/20 ", PREFIX_LIMIT, PREFIX_OFFSET)));
+        assertEquals(new Page(0, 5),
+                ParserUtil.parsePage(ArgumentTokenizer.tokenize(" off/0 lim/5", PREFIX_LIMIT, PREFIX_OFFSET)));
+        assertEquals(new Page(3, Page.NO_LIMIT),
+                ParserUtil.parsePage(ArgumentTokenizer.tokenize(" off/3", PREFIX_LIMIT, PREFIX_OFFSET)));
+    }
+
+    @Test
+    public void parsePage_invalidLimitOrOffset_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_LIMIT, () ->
+                ParserUtil.parsePage(ArgumentTokenizer.tokenize(" lim/0", PREFIX_LIMIT, PREFIX_OFFSET)));
+        assertThrows(ParseException.class, MESSAGE_INVALID_LIMIT, () ->
+                ParserUtil.parsePage(ArgumentTokenizer.tokenize(" lim/ten", PREFIX_LIMIT, PREFIX_OFFSET)));
+        assertThrows(ParseException.class, MESSAGE_INVALID_OFFSET, () ->
+                ParserUtil.parsePage(ArgumentTokenizer.tokenize(" off/-1", PREFIX_LIMIT, PREFIX_OFFSET)));
+        assertThrows(ParseException.class, MESSAGE_INVALID_OFFSET, () ->
+                ParserUtil.parsePage(ArgumentTokenizer.tokenize(" off/", PREFIX_LIMIT, PREFIX_OFFSET)));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
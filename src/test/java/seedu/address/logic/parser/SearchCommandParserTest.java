@@ -9,6 +9,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SearchCommand;
+import seedu.address.model.Page;
 import seedu.address.model.applicant.EmailMatchesKeywordPredicate;
 import seedu.address.model.applicant.JobPositionMatchesPredicate;
 import seedu.address.model.applicant.NameMatchesKeywordPredicate;
@@ -123,4 +124,30 @@ public class SearchCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
     }
 
+    /**
+     * Tests that a limit and an offset give the page of the matching applicants to show.
+     */
+    @Test
+    public void parse_limitAndOffset_success() {
+        SearchCommand expected = new SearchCommand(List.of(new JobPositionMatchesPredicate("Backend SWE")),
+                new Page(10, 50));
+        assertParseSuccess(parser, " j/Backend SWE lim/50 off/10", expected);
+    }
+
+    /**
+     * Tests that a page without any criteria throws a parse exception.
+     */
+    @Test
+    public void parse_onlyLimit_throwsParseException() {
+        assertParseFailure(parser, " lim/50",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Tests that an invalid limit throws a parse exception.
+     */
+    @Test
+    public void parse_invalidLimit_throwsParseException() {
+        assertParseFailure(parser, " n/Alice lim/0", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
 }
@@ -11,10 +11,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Page;
+import seedu.address.model.applicant.SortCriterion;
 
 public class SortCommandParserTest {
     private final SortCommandParser parser = new SortCommandParser();
@@ -207,13 +211,49 @@ public class SortCommandParserTest {
         assertParseFailure(parser, invalidInput, expectedExceptionMessage);
     }
     @Test
-    public void parse_multipleCriteriaArgs_throwsParseException() {
-        String invalidInput = " n/ e/";
+    public void parse_multipleCriteriaArgs_returnsSortCommand() {
+        try {
+            String input = " s/ r/ d/ time/ a/ n/";
+            SortCommand expectedSortCommand = new SortCommand(List.of(new SortCriterion(PREFIX_STATUS, true),
+                    new SortCriterion(PREFIX_RATING, false), new SortCriterion(PREFIX_ADDED_TIME, true),
+                    new SortCriterion(PREFIX_NAME, true)), Page.ALL);
+            assertParseSuccess(parser, input, expectedSortCommand);
+        } catch (CommandException pe) {
+            fail();
+        }
+    }
+    @Test
+    public void parse_limitAndOffsetArgs_returnsSortCommand() {
+        try {
+            String input = " r/ d/ n/ lim/50 off/ 100";
+            SortCommand expectedSortCommand = new SortCommand(List.of(new SortCriterion(PREFIX_RATING, false),
+                    new SortCriterion(PREFIX_NAME, true)), new Page(100, 50));
+            assertParseSuccess(parser, input, expectedSortCommand);
+        } catch (CommandException pe) {
+            fail();
+        }
+    }
+    @Test
+    public void parse_invalidLimitArgs_throwsParseException() {
+        assertParseFailure(parser, " r/ lim/-5", ParserUtil.MESSAGE_INVALID_LIMIT);
+        // criteria cannot follow the page
+        assertParseFailure(parser, " lim/5 r/", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+    @Test
+    public void parse_repeatedCriteriaArgs_throwsParseException() {
+        String invalidInput = " n/ e/ n/ d/";
         String expectedExceptionMessage = String.format(
                 MESSAGE_INVALID_CRITERIA_FORMAT, "sorting", SortCommand.MESSAGE_USAGE);
         assertParseFailure(parser, invalidInput, expectedExceptionMessage);
     }
     @Test
+    public void parse_orderWithoutCriteria_throwsParseException() {
+        String expectedExceptionMessage = String.format(
+                MESSAGE_INVALID_CRITERIA_FORMAT, "sorting", SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " d/", expectedExceptionMessage);
+        assertParseFailure(parser, " n/ a/ d/", expectedExceptionMessage);
+    }
+    @Test
     public void parse_noSpaceBetweenCriteriaAndOrder_throwsParseException() {
         String invalidInput = " n/a/";
         String expectedExceptionMessage = String.format(
@@ -0,0 +1,69 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.applicant.Applicant;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSnapshot(null));
+    }
+
+    @Test
+    public void constructor_sourceChangedAfterwards_snapshotUnchanged() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Applicant> applicantsBefore = List.copyOf(addressBook.getPersonList());
+
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+
+        assertEquals(applicantsBefore, snapshot.getPersonList());
+        assertEquals(new AddressBook(snapshot), new AddressBook(new AddressBookSnapshot(getTypicalAddressBook())));
+    }
+
+    @Test
+    public void constructor_lazilyMaterializedSource_sourceShared() {
+        List<Applicant> source = List.copyOf(getTypicalAddressBook().getPersonList());
+        AddressBook addressBook = new AddressBook();
+        addressBook.resetData(new AddressBookSnapshot(getTypicalAddressBook()) {
+            @Override
+            public boolean isLazilyMaterialized() {
+                return true;
+            }
+
+            @Override
+            public List<Applicant> getPersonListSnapshot() {
+                return source;
+            }
+        });
+
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        assertTrue(snapshot.isLazilyMaterialized());
+        assertSame(source, snapshot.getPersonListSnapshot());
+
+        // a change copies the applicants out of the source, after which snapshots are copies
+        addressBook.addPerson(HOON);
+        assertFalse(new AddressBookSnapshot(addressBook).isLazilyMaterialized());
+        assertSame(source, snapshot.getPersonListSnapshot());
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+}
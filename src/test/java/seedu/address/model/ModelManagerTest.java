@@ -3,20 +3,32 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.applicant.Applicant;
 import seedu.address.model.applicant.NameContainsKeywordsPredicate;
+import seedu.address.model.applicant.SortCriterion;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +105,136 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void sortPersons_nullCriteria_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.sortPersons(null));
+    }
+
+    @Test
+    public void sortPersons_byName_sortsViewInCasePairedAlphanumericOrder() {
+        Applicant aa = createApplicant("Aa", 0);
+        Applicant aaa = createApplicant("aaa", 1);
+        Applicant bbb = createApplicant("Bbb", 2);
+        Applicant bbbMixedCase = createApplicant("bbB", 3);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(bbb).withPerson(aaa).withPerson(aa)
+                .withPerson(bbbMixedCase).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        modelManager.sortPersons(List.of(new SortCriterion(PREFIX_NAME, true)));
+        assertEquals(List.of(aa, aaa, bbb, bbbMixedCase), modelManager.getFilteredPersonList());
+
+        modelManager.sortPersons(List.of(new SortCriterion(PREFIX_NAME, false)));
+        assertEquals(List.of(bbbMixedCase, bbb, aaa, aa), modelManager.getFilteredPersonList());
+
+        // the address book keeps its order
+        assertEquals(List.of(bbb, aaa, aa, bbbMixedCase), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void sortPersons_thenAddAndFilter_viewStaysSorted() {
+        modelManager.addPerson(BENSON);
+        modelManager.sortPersons(List.of(new SortCriterion(PREFIX_NAME, true)));
+
+        modelManager.addPerson(ALICE);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortPersons_multipleCriteria_breaksTiesWithLaterCriteria() {
+        Applicant interviewedLow = new PersonBuilder(createApplicant("Amy", 0)).withStatus("Interviewed")
+                .withRating("2").build();
+        Applicant interviewedHigh = new PersonBuilder(createApplicant("Ben", 1)).withStatus("Interviewed")
+                .withRating("4").build();
+        Applicant appliedLow = new PersonBuilder(createApplicant("Cat", 2)).withStatus("Applied")
+                .withRating("2").build();
+        Applicant appliedUnrated = new PersonBuilder(createApplicant("Dan", 3)).withStatus("Applied").build();
+        AddressBook addressBook = new AddressBookBuilder().withPerson(interviewedLow).withPerson(appliedUnrated)
+                .withPerson(interviewedHigh).withPerson(appliedLow).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        modelManager.sortPersons(List.of(new SortCriterion(PREFIX_STATUS, true),
+                new SortCriterion(PREFIX_RATING, false)));
+        assertEquals(List.of(appliedLow, appliedUnrated, interviewedHigh, interviewedLow),
+                modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPersonListPage_sorted_showsSamePageAsSortingWholeList() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.sortPersons(List.of(new SortCriterion(PREFIX_RATING, false),
+                new SortCriterion(PREFIX_NAME, true)));
+        List<Applicant> sorted = new ArrayList<>(modelManager.getFilteredPersonList());
+
+        modelManager.setPersonListPage(new Page(2, 3));
+        assertEquals(sorted.subList(2, 5), modelManager.getFilteredPersonList());
+        assertEquals(3, modelManager.getFilteredPersonListSize());
+        assertEquals(sorted.size(), modelManager.getMatchedPersonCount());
+
+        // the page stays sorted as applicants are added
+        modelManager.setPersonListPage(new Page(0, 1));
+        modelManager.sortPersons(List.of(new SortCriterion(PREFIX_NAME, true)));
+        Applicant aaron = createApplicant("Aaron", 9);
+        modelManager.addPerson(aaron);
+        assertEquals(List.of(aaron), modelManager.getFilteredPersonList());
+
+        modelManager.setPersonListPage(Page.ALL);
+        assertEquals(modelManager.getAddressBook().getPersonList().size(), modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void sortPersons_tieOnEveryCriterion_sameOrderWhateverEarlierSortOrPage() {
+        Applicant cat = createApplicant("Cat", 0);
+        Applicant ben = createApplicant("Ben", 1);
+        Applicant amy = createApplicant("Amy", 2);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(amy).withPerson(cat).withPerson(ben).build();
+        List<SortCriterion> byRating = List.of(new SortCriterion(PREFIX_RATING, false));
+
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.sortPersons(List.of(new SortCriterion(PREFIX_NAME, false)));
+        modelManager.sortPersons(byRating);
+        assertEquals(List.of(cat, ben, amy), modelManager.getFilteredPersonList());
+
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.sortPersons(byRating);
+        modelManager.setPersonListPage(new Page(0, 2));
+        assertEquals(List.of(cat, ben), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void constructor_lazilyMaterializedAddressBook_noApplicantRead() {
+        CountingList source = new CountingList(getTypicalPersons());
+        modelManager = new ModelManager(new AddressBookSnapshot(new AddressBook()) {
+            @Override
+            public boolean isLazilyMaterialized() {
+                return true;
+            }
+
+            @Override
+            public List<Applicant> getPersonListSnapshot() {
+                return source;
+            }
+        }, new UserPrefs());
+        assertEquals(0, source.readCount);
+
+        // only the applicants shown are read, until the list is sorted as a whole
+        assertEquals(source.size(), modelManager.getFilteredPersonList().size());
+        assertEquals(BENSON, modelManager.getFilteredPersonList().get(1));
+        assertEquals(1, source.readCount);
+        modelManager.sortPersons(List.of(new SortCriterion(PREFIX_NAME, true)));
+        assertEquals(ALICE, modelManager.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void sortPersons_nonSortingPrefix_keepsOrder() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.sortPersons(List.of(new SortCriterion(PREFIX_ADDRESS, true)));
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -129,4 +271,32 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    private static Applicant createApplicant(String name, int index) {
+        return new PersonBuilder().withName(name).withEmail("test" + index + "@gmail.com")
+                .withPhone("123456789" + index).build();
+    }
+
+    /**
+     * A list that counts how many of its applicants have been read.
+     */
+    private static class CountingList extends AbstractList<Applicant> {
+        private final List<Applicant> applicants;
+        private int readCount = 0;
+
+        CountingList(List<Applicant> applicants) {
+            this.applicants = applicants;
+        }
+
+        @Override
+        public Applicant get(int index) {
+            readCount++;
+            return applicants.get(index);
+        }
+
+        @Override
+        public int size() {
+            return applicants.size();
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PageTest {
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Page(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new Page(0, 0));
+    }
+
+    @Test
+    public void isAll() {
+        assertTrue(Page.ALL.isAll());
+        assertTrue(new Page(0, Page.NO_LIMIT).isAll());
+        assertFalse(new Page(1, Page.NO_LIMIT).isAll());
+        assertFalse(new Page(0, 10).isAll());
+    }
+
+    @Test
+    public void getEnd() {
+        assertEquals(15, new Page(5, 10).getEnd(100));
+        assertEquals(8, new Page(5, 10).getEnd(8));
+        assertEquals(3, new Page(5, 10).getEnd(3));
+
+        // does not overflow
+        assertEquals(100, new Page(5, Page.NO_LIMIT).getEnd(100));
+    }
+
+    @Test
+    public void equals() {
+        Page page = new Page(5, 10);
+
+        // same values -> returns true
+        assertTrue(page.equals(new Page(5, 10)));
+
+        // same object -> returns true
+        assertTrue(page.equals(page));
+
+        // null -> returns false
+        assertFalse(page.equals(null));
+
+        // different types -> returns false
+        assertFalse(page.equals(5));
+
+        // different values -> returns false
+        assertFalse(page.equals(new Page(0, 10)));
+        assertFalse(page.equals(new Page(5, 20)));
+    }
+}
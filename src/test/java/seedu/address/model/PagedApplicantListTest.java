@@ -0,0 +1,159 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.ApplicantComparators;
+
+public class PagedApplicantListTest {
+
+    private final ObservableList<Applicant> source = FXCollections.observableArrayList(
+            List.of(CARL, ALICE, ELLE, BENSON, DANIEL));
+    private final PagedApplicantList pagedList = new PagedApplicantList(source);
+
+    @Test
+    public void showAll_sourceChanges_followsSource() {
+        assertEquals(source, pagedList);
+
+        source.add(HOON);
+        source.remove(ALICE);
+        assertEquals(source, pagedList);
+    }
+
+    @Test
+    public void showPage_noComparator_sliceOfSource() {
+        pagedList.showPage(new Page(1, 2), null);
+        assertEquals(List.of(ALICE, ELLE), pagedList);
+
+        pagedList.showPage(new Page(4, 2), null);
+        assertEquals(List.of(DANIEL), pagedList);
+
+        pagedList.showPage(new Page(5, 2), null);
+        assertEquals(List.of(), pagedList);
+    }
+
+    @Test
+    public void showPage_comparator_sameAsSortingWholeList() {
+        List<Applicant> sorted = new ArrayList<>(source);
+        sorted.sort(ApplicantComparators.BY_NAME);
+
+        pagedList.showPage(new Page(0, 2), ApplicantComparators.BY_NAME);
+        assertEquals(sorted.subList(0, 2), pagedList);
+
+        pagedList.showPage(new Page(2, 2), ApplicantComparators.BY_NAME);
+        assertEquals(sorted.subList(2, 4), pagedList);
+
+        pagedList.showPage(new Page(3, Page.NO_LIMIT), ApplicantComparators.BY_NAME);
+        assertEquals(sorted.subList(3, 5), pagedList);
+    }
+
+    @Test
+    public void showPage_equalApplicants_keepSourceOrder() {
+        Comparator<Applicant> allEqual = (first, second) -> 0;
+        pagedList.showPage(new Page(1, 3), allEqual);
+        assertEquals(source.subList(1, 4), pagedList);
+    }
+
+    @Test
+    public void showPage_sourceChanges_pageSelectedAgain() {
+        pagedList.showPage(new Page(0, 2), ApplicantComparators.BY_NAME);
+        assertEquals(List.of(ALICE, BENSON), pagedList);
+
+        source.remove(ALICE);
+        assertEquals(List.of(BENSON, CARL), pagedList);
+    }
+
+    @Test
+    public void showPage_listenersNotified() {
+        List<Integer> sizes = new ArrayList<>();
+        pagedList.addListener((ListChangeListener<Applicant>) change -> sizes.add(pagedList.size()));
+
+        pagedList.showPage(new Page(0, 2), null);
+        pagedList.showAll();
+        assertEquals(List.of(2, 5), sizes);
+    }
+
+    @Test
+    public void showAll_sortedView_followsView() {
+        SortedList<Applicant> sorted = new SortedList<>(source, ApplicantComparators.BY_NAME);
+        pagedList.showPage(new Page(0, 1), null);
+        pagedList.showAll(sorted);
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, ELLE), pagedList);
+
+        source.add(HOON);
+        assertEquals(sorted, pagedList);
+
+        // the changes of the view are no longer passed on once the source list is shown again
+        List<Integer> sizes = new ArrayList<>();
+        pagedList.addListener((ListChangeListener<Applicant>) change -> sizes.add(pagedList.size()));
+        pagedList.showAll();
+        sorted.setComparator(null);
+        assertEquals(source, pagedList);
+        assertEquals(List.of(6), sizes);
+    }
+
+    @Test
+    public void showAll_afterPage_showsWholeSource() {
+        pagedList.showPage(new Page(0, 1), ApplicantComparators.BY_NAME);
+        pagedList.showAll();
+        assertEquals(source, pagedList);
+    }
+
+    @Test
+    public void suspendChanges_sourceChanges_notifiedOnceOnResume() {
+        List<List<Applicant>> notified = new ArrayList<>();
+        pagedList.addListener((ListChangeListener<Applicant>) change -> {
+            List<Applicant> removed = new ArrayList<>();
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+            notified.add(removed);
+        });
+
+        pagedList.suspendChanges();
+        source.add(HOON);
+        source.remove(ALICE);
+        assertEquals(source, pagedList); // the view is still up to date
+        assertEquals(List.of(), notified);
+
+        pagedList.resumeChanges();
+        assertEquals(List.of(List.of(CARL, ALICE, ELLE, BENSON, DANIEL)), notified);
+
+        pagedList.showPage(new Page(0, 1), null);
+        assertEquals(2, notified.size());
+    }
+
+    @Test
+    public void suspendChanges_page_selectedAgainWhenRead() {
+        pagedList.showPage(new Page(0, 2), ApplicantComparators.BY_NAME);
+        pagedList.suspendChanges();
+        source.remove(ALICE);
+        source.remove(BENSON);
+        assertEquals(List.of(CARL, DANIEL), pagedList);
+        pagedList.resumeChanges();
+        assertEquals(List.of(CARL, DANIEL), pagedList);
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> pagedList.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> pagedList.add(HOON));
+    }
+}
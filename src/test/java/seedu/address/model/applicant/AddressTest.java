@@ -1,5 +1,6 @@
 package seedu.address.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -27,11 +28,23 @@ public class AddressTest {
         // invalid addresses
         assertFalse(Address.isValidAddress("")); // empty string
         assertFalse(Address.isValidAddress(" ")); // spaces only
+        assertFalse(Address.isValidAddress("\tBlk 456")); // leading whitespace
+        assertFalse(Address.isValidAddress("Blk 456\nDen Road")); // more than one line
+        assertFalse(Address.isValidAddress("Blk 456\u2028Den Road")); // Unicode line separator
 
         // valid addresses
         assertTrue(Address.isValidAddress("Blk 456, Den Road, #01-355"));
         assertTrue(Address.isValidAddress("-")); // one character
         assertTrue(Address.isValidAddress("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA")); // long address
+        assertTrue(Address.isValidAddress("Blk 456 \t Den Road ")); // whitespace after the first character
+    }
+
+    @Test
+    public void isValidAddress_sameAsRegex() {
+        for (String test : new String[] {"a", "-", " a", "\ta", "\u000Ba", "\u00a0a", "\u2028a", "a\n", "a\r",
+                "a\u0085", "a\u2029", "a\f b", "\uD83D\uDE00"}) {
+            assertEquals(test.matches(Address.VALIDATION_REGEX), Address.isValidAddress(test), test);
+        }
     }
 
     @Test
@@ -0,0 +1,111 @@
+package seedu.address.model.applicant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class ApplicantComparatorsTest {
+
+    @Test
+    public void forPrefix_nullPrefix_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ApplicantComparators.forPrefix(null, true));
+    }
+
+    @Test
+    public void forPrefix_nonSortingPrefix_returnsEmpty() {
+        assertFalse(ApplicantComparators.forPrefix(PREFIX_ADDRESS, true).isPresent());
+    }
+
+    @Test
+    public void forPrefix_name_caseSensitiveLexicographicOrder() {
+        Applicant upper = new PersonBuilder().withName("Ab").build();
+        Applicant lower = new PersonBuilder().withName("ab").build();
+        Applicant later = new PersonBuilder().withName("ac").build();
+
+        Comparator<Applicant> ascending = ApplicantComparators.forPrefix(PREFIX_NAME, true).get();
+        assertSame(ApplicantComparators.BY_NAME, ascending);
+        assertTrue(ascending.compare(upper, lower) < 0);
+        assertTrue(ascending.compare(lower, later) < 0);
+        assertEquals(0, ascending.compare(upper, new PersonBuilder().withName("Ab").build()));
+
+        Comparator<Applicant> descending = ApplicantComparators.forPrefix(PREFIX_NAME, false).get();
+        assertTrue(descending.compare(upper, lower) > 0);
+        assertTrue(descending.compare(lower, later) > 0);
+    }
+
+    @Test
+    public void forPrefix_addedTime_chronologicalOrder() {
+        LocalDateTime time = LocalDateTime.of(2024, 1, 1, 9, 0);
+        Applicant earlier = new PersonBuilder().withAddedTime(time).build();
+        Applicant later = new PersonBuilder().withAddedTime(time.plusSeconds(1)).build();
+
+        assertTrue(ApplicantComparators.forPrefix(PREFIX_ADDED_TIME, true).get().compare(earlier, later) < 0);
+        assertTrue(ApplicantComparators.forPrefix(PREFIX_ADDED_TIME, false).get().compare(earlier, later) > 0);
+    }
+
+    @Test
+    public void forPrefix_rating_unassignedLastInBothOrders() {
+        Applicant low = new PersonBuilder().withRating("1").build();
+        Applicant high = new PersonBuilder().withRating("5").build();
+        Applicant unassigned = new PersonBuilder().withRating("-1").build();
+
+        Comparator<Applicant> ascending = ApplicantComparators.forPrefix(PREFIX_RATING, true).get();
+        assertTrue(ascending.compare(low, high) < 0);
+        assertTrue(ascending.compare(high, unassigned) < 0);
+
+        Comparator<Applicant> descending = ApplicantComparators.forPrefix(PREFIX_RATING, false).get();
+        assertTrue(descending.compare(high, low) < 0);
+        assertTrue(descending.compare(low, unassigned) < 0);
+    }
+
+    @Test
+    public void forCriteria_noSortingCriteria_returnsEmpty() {
+        assertFalse(ApplicantComparators.forCriteria(List.of()).isPresent());
+        assertFalse(ApplicantComparators.forCriteria(List.of(new SortCriterion(PREFIX_ADDRESS, true))).isPresent());
+    }
+
+    @Test
+    public void forCriteria_multipleCriteria_laterCriteriaBreakTies() {
+        Applicant amy = new PersonBuilder().withName("Amy").withRating("3").build();
+        Applicant benLow = new PersonBuilder().withName("Ben").withRating("1").build();
+        Applicant benHigh = new PersonBuilder().withName("Ben").withRating("5").build();
+
+        Comparator<Applicant> comparator = ApplicantComparators.forCriteria(List.of(
+                new SortCriterion(PREFIX_NAME, true), new SortCriterion(PREFIX_ADDRESS, true),
+                new SortCriterion(PREFIX_RATING, false))).get();
+        assertTrue(comparator.compare(amy, benLow) < 0);
+        assertTrue(comparator.compare(benHigh, benLow) < 0);
+        assertEquals(0, comparator.compare(benHigh, new PersonBuilder(benHigh).build()));
+    }
+
+    @Test
+    public void forCriteria_tieOnEveryCriterion_addedTimeThenEmailBreakTies() {
+        LocalDateTime time = LocalDateTime.of(2024, 1, 1, 9, 0);
+        Applicant earlier = new PersonBuilder().withName("Amy").withEmail("z@example.com").withAddedTime(time).build();
+        Applicant laterA = new PersonBuilder().withName("Amy").withEmail("a@example.com")
+                .withAddedTime(time.plusDays(1)).build();
+        Applicant laterB = new PersonBuilder().withName("Amy").withEmail("b@example.com")
+                .withAddedTime(time.plusDays(1)).build();
+
+        Comparator<Applicant> comparator = ApplicantComparators.forCriteria(List.of(
+                new SortCriterion(PREFIX_NAME, false))).get();
+        List<Applicant> sorted = new ArrayList<>(List.of(laterB, laterA, earlier));
+        sorted.sort(comparator);
+        assertEquals(List.of(earlier, laterA, laterB), sorted);
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.applicant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class ApplicantSearchIndexTest {
+
+    private final ApplicantSearchIndex searchIndex = new ApplicantSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        searchIndex.setAll(getTypicalPersons());
+    }
+
+    @Test
+    public void find_keywordInDifferentCase_found() {
+        Set<Applicant> matches = searchIndex.find(List.of(new NameMatchesKeywordPredicate("aLiCe pAuLiNe")), true);
+        assertEquals(1, matches.size());
+        assertTrue(matches.contains(ALICE));
+    }
+
+    @Test
+    public void find_anyPredicate_returnsUnion() {
+        Set<Applicant> matches = searchIndex.find(List.of(new NameMatchesKeywordPredicate("Alice Pauline"),
+                new EmailMatchesKeywordPredicate(BENSON.getEmail().value)), false);
+        assertEquals(2, matches.size());
+        assertTrue(matches.contains(ALICE));
+        assertTrue(matches.contains(BENSON));
+    }
+
+    @Test
+    public void find_allPredicates_returnsIntersection() {
+        List<IdentifierPredicate> predicates = List.of(new AfterDatePredicate(LocalDateTime.of(2025, 3, 13, 0, 0)),
+                new BeforeDatePredicate(LocalDateTime.of(2025, 3, 13, 3, 0)));
+        Set<Applicant> matches = searchIndex.find(predicates, true);
+        assertEquals(2, matches.size());
+        assertTrue(matches.contains(BENSON));
+        assertTrue(matches.contains(CARL));
+        assertFalse(matches.contains(DANIEL));
+    }
+
+    @Test
+    public void find_noPredicates_matchesAllOrNone() {
+        assertEquals(getTypicalPersons().size(), searchIndex.find(Collections.emptyList(), true).size());
+        assertTrue(searchIndex.find(Collections.emptyList(), false).isEmpty());
+    }
+
+    @Test
+    public void find_removedApplicant_notFound() {
+        searchIndex.remove(ALICE);
+        assertTrue(searchIndex.find(List.of(new NameMatchesKeywordPredicate("Alice Pauline")), true).isEmpty());
+    }
+
+    @Test
+    public void createPredicate_applicantAddedLater_testedDirectly() {
+        Predicate<Applicant> predicate = searchIndex.createPredicate(
+                List.of(new StatusMatchesPredicate("Offer Given")), true);
+        Applicant editedAlice = new PersonBuilder(ALICE).withStatus("Offer Given").build();
+        searchIndex.remove(ALICE);
+        searchIndex.add(editedAlice);
+
+        assertTrue(predicate.test(editedAlice));
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void combine_matchAllAndMatchAny_correctResult() {
+        List<IdentifierPredicate> predicates = List.of(new NameMatchesKeywordPredicate("Alice Pauline"),
+                new EmailMatchesKeywordPredicate(BENSON.getEmail().value));
+
+        Predicate<Applicant> matchesAll = IdentifierPredicate.combine(predicates, true);
+        assertFalse(matchesAll.test(ALICE));
+        assertFalse(matchesAll.test(BENSON));
+
+        Predicate<Applicant> matchesAny = IdentifierPredicate.combine(predicates, false);
+        assertTrue(matchesAny.test(ALICE));
+        assertTrue(matchesAny.test(BENSON));
+        assertFalse(matchesAny.test(CARL));
+
+        assertTrue(IdentifierPredicate.combine(Collections.emptyList(), true).test(ALICE));
+        assertFalse(IdentifierPredicate.combine(Collections.emptyList(), false).test(ALICE));
+    }
+}
@@ -1,9 +1,13 @@
 package seedu.address.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class EmailTest {
@@ -66,6 +70,33 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
 
+    @Test
+    public void isValidEmail_sameAsRegex() {
+        // every string of up to 5 characters from an alphabet that covers each part of the regex
+        char[] alphabet = {'a', '1', '_', '-', '.', '+', '@', ' '};
+        List<String> tests = new ArrayList<>(List.of(""));
+        for (int length = 1, start = 0; length <= 5; length++) {
+            int end = tests.size();
+            for (int i = start; i < end; i++) {
+                for (char c : alphabet) {
+                    tests.add(tests.get(i) + c);
+                }
+            }
+            start = end;
+        }
+        tests.addAll(List.of("a@b-c", "a@bc-d", "a@b-cd", "a@b.c-d", "a@b.cd.e", "a@\u00e9\u00e9", "a@B1"));
+
+        for (String test : tests) {
+            assertEquals(test.matches(Email.VALIDATION_REGEX), Email.isValidEmail(test), test);
+        }
+    }
+
+    @Test
+    public void isValidEmail_longInvalidDomain_returnsFalse() {
+        // backtracks for a very long time when matched against VALIDATION_REGEX
+        assertFalse(Email.isValidEmail("a@" + "a".repeat(100) + "!"));
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email");
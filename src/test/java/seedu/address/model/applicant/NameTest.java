@@ -1,11 +1,15 @@
 package seedu.address.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.StringUtil;
+
 public class NameTest {
 
     @Test
@@ -57,4 +61,13 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void getSortKey() {
+        Name name = new Name("Al Ice");
+        assertEquals(StringUtil.toSortKey("Al Ice"), name.getSortKey());
+
+        // cached after the first call
+        assertSame(name.getSortKey(), name.getSortKey());
+    }
 }
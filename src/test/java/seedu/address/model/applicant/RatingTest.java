@@ -1,9 +1,14 @@
 package seedu.address.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class RatingTest {
@@ -39,6 +44,41 @@ public class RatingTest {
         assertTrue(Rating.isValidRating("-1")); // value representing no rating
     }
 
+    @Test
+    public void of_validRating_sharedInstance() {
+        assertSame(Rating.of("3"), Rating.of((byte) 3));
+        assertSame(Rating.of("-1"), Rating.of(Rating.UNASSIGNED_SCORE));
+        assertEquals(new Rating("3"), Rating.of("3"));
+        assertEquals("3", Rating.of((byte) 3).value);
+        assertEquals(3, Rating.of("3").getScore());
+    }
+
+    @Test
+    public void of_invalidRating_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Rating.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Rating.of("0"));
+        assertThrows(IllegalArgumentException.class, () -> Rating.of((byte) 6));
+        assertThrows(IllegalArgumentException.class, () -> Rating.of((byte) -2));
+    }
+
+    @Test
+    public void comparators_unassignedRatingsLast() {
+        List<Rating> ratings = new ArrayList<>(List.of(Rating.of("3"), Rating.of("-1"), Rating.of("5"),
+                Rating.of("1")));
+
+        ratings.sort(Rating.ASCENDING_ORDER);
+        assertEquals(List.of(Rating.of("1"), Rating.of("3"), Rating.of("5"), Rating.of("-1")), ratings);
+
+        ratings.sort(Rating.DESCENDING_ORDER);
+        assertEquals(List.of(Rating.of("5"), Rating.of("3"), Rating.of("1"), Rating.of("-1")), ratings);
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("Unassigned", Rating.of("-1").toString());
+        assertEquals("4 / 5", Rating.of("4").toString());
+    }
+
     @Test
     public void equals() {
         Rating rating = new Rating("2");
@@ -1,6 +1,8 @@
 package seedu.address.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -18,6 +20,13 @@ public class StatusTest {
         assertThrows(IllegalArgumentException.class, () -> new Status(invalidStatus));
     }
 
+    @Test
+    public void of_sameStatus_sameInstance() {
+        assertSame(Status.of("Pending Review"), Status.of(new String("Pending Review")));
+        assertEquals(new Status("Pending Review"), Status.of("Pending Review"));
+        assertThrows(IllegalArgumentException.class, () -> Status.of(""));
+    }
+
     @Test
     public void isValidName() {
         // null name
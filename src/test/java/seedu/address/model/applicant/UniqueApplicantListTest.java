@@ -2,27 +2,24 @@ package seedu.address.model.applicant;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
-import java.time.LocalDateTime;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.applicant.exceptions.DuplicatePersonException;
 import seedu.address.model.applicant.exceptions.PersonNotFoundException;
-import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniqueApplicantListTest {
@@ -64,6 +61,32 @@ public class UniqueApplicantListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueApplicantList.add(ALICE));
     }
 
+    @Test
+    public void addAll_uniquePersons_allAdded() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.addAll(List.of(BOB));
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(ALICE);
+        expectedUniqueApplicantList.add(BOB);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+        assertTrue(uniqueApplicantList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_personInList_throwsDuplicatePersonException() {
+        uniqueApplicantList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniqueApplicantList.addAll(List.of(BOB, ALICE)));
+        assertFalse(uniqueApplicantList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        Applicant bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                uniqueApplicantList.addAll(List.of(ALICE, bobWithAlicePhone)));
+        assertFalse(uniqueApplicantList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicantList.setPerson(null, ALICE));
@@ -115,6 +138,19 @@ public class UniqueApplicantListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueApplicantList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonSharesPhoneWithOtherPerson_listUnchanged() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        Applicant editedAlice = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniqueApplicantList.setPerson(ALICE, editedAlice));
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(ALICE);
+        expectedUniqueApplicantList.add(BOB);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+        assertTrue(uniqueApplicantList.contains(ALICE));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicantList.remove(null));
@@ -131,6 +167,7 @@ public class UniqueApplicantListTest {
         uniqueApplicantList.remove(ALICE);
         UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
         assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+        assertFalse(uniqueApplicantList.contains(ALICE));
     }
 
     @Test
@@ -168,6 +205,121 @@ public class UniqueApplicantListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueApplicantList.setPersons(listWithDuplicateApplicants));
     }
 
+    @Test
+    public void setPersons_listWithSharedPhone_throwsDuplicatePersonException() {
+        uniqueApplicantList.add(BOB);
+        Applicant aliceWithBobPhone = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        List<Applicant> listWithSharedPhone = Arrays.asList(BOB, aliceWithBobPhone);
+        assertThrows(DuplicatePersonException.class, () -> uniqueApplicantList.setPersons(listWithSharedPhone));
+
+        // list is left untouched when the replacement is rejected
+        assertTrue(uniqueApplicantList.contains(BOB));
+        assertFalse(uniqueApplicantList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersonsLazily_listRead_onlyReadApplicantsCreated() {
+        CountingList source = new CountingList(List.of(ALICE, BOB));
+        uniqueApplicantList.setPersonsLazily(source);
+
+        List<Applicant> applicants = uniqueApplicantList.asUnmodifiableObservableList();
+        assertEquals(2, applicants.size());
+        assertEquals(BOB, applicants.get(1));
+        assertEquals(1, source.readCount);
+
+        // searching the list copies every applicant out of the source
+        assertTrue(uniqueApplicantList.contains(ALICE));
+        int readCount = source.readCount;
+        uniqueApplicantList.remove(BOB);
+        assertEquals(List.of(ALICE), applicants);
+        assertEquals(readCount, source.readCount);
+    }
+
+    @Test
+    public void setPersonsLazily_sourceWithDuplicatePersons_throwsDuplicatePersonExceptionWhenSearched() {
+        Applicant aliceWithBobEmail = new PersonBuilder(ALICE).withEmail(BOB.getEmail().value).build();
+        uniqueApplicantList.setPersonsLazily(List.of(aliceWithBobEmail, BOB));
+        assertThrows(DuplicatePersonException.class, () -> uniqueApplicantList.contains(ALICE));
+
+        // the list is left as it was, so it keeps failing rather than answering from half-built indexes
+        assertEquals(List.of(aliceWithBobEmail, BOB), uniqueApplicantList.asUnmodifiableObservableList());
+        assertThrows(DuplicatePersonException.class, () -> uniqueApplicantList.contains(BOB));
+        assertThrows(DuplicatePersonException.class, () -> uniqueApplicantList.add(ALICE));
+
+        // and it can still be replaced
+        uniqueApplicantList.setPersons(List.of(ALICE));
+        assertTrue(uniqueApplicantList.contains(ALICE));
+        assertFalse(uniqueApplicantList.contains(BOB));
+        uniqueApplicantList.add(BOB);
+        assertEquals(List.of(ALICE, BOB), uniqueApplicantList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getModificationVersion_afterChanges_increases() {
+        long version = uniqueApplicantList.getModificationVersion();
+        uniqueApplicantList.add(ALICE);
+        assertTrue(uniqueApplicantList.getModificationVersion() > version);
+
+        version = uniqueApplicantList.getModificationVersion();
+        uniqueApplicantList.contains(ALICE);
+        assertEquals(version, uniqueApplicantList.getModificationVersion());
+
+        uniqueApplicantList.markModified();
+        assertTrue(uniqueApplicantList.getModificationVersion() > version);
+    }
+
+    @Test
+    public void getLatestChange_afterChanges_linkedToEarlierChanges() {
+        ApplicantListChange start = uniqueApplicantList.getLatestChange();
+        assertTrue(start.isFirstOfList());
+
+        uniqueApplicantList.add(ALICE);
+        Applicant editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueApplicantList.setPerson(ALICE, editedAlice);
+        uniqueApplicantList.markModified(editedAlice);
+        uniqueApplicantList.remove(editedAlice);
+
+        ApplicantListChange remove = uniqueApplicantList.getLatestChange();
+        assertEquals(ApplicantListChange.Kind.REMOVE, remove.getKind());
+        assertSame(editedAlice, remove.getRemoved());
+        ApplicantListChange modify = remove.getPrevious();
+        assertEquals(ApplicantListChange.Kind.MODIFY, modify.getKind());
+        ApplicantListChange set = modify.getPrevious();
+        assertEquals(ApplicantListChange.Kind.SET, set.getKind());
+        assertSame(ALICE, set.getRemoved());
+        assertEquals(List.of(editedAlice), set.getAdded());
+        ApplicantListChange add = set.getPrevious();
+        assertEquals(ApplicantListChange.Kind.ADD, add.getKind());
+        assertSame(start, add.getPrevious());
+    }
+
+    @Test
+    public void getLatestChange_changeNotKnownInDetail_chainCut() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.markModified();
+        assertNull(uniqueApplicantList.getLatestChange().getPrevious());
+        assertFalse(uniqueApplicantList.getLatestChange().isFirstOfList());
+
+        // an applicant that is not the one in the list cannot tell which applicant changed either
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.markModified(new PersonBuilder(BOB).build());
+        assertNull(uniqueApplicantList.getLatestChange().getPrevious());
+    }
+
+    @Test
+    public void getLatestChange_manyChanges_chainCut() {
+        uniqueApplicantList.add(ALICE);
+        for (int i = 0; i < ApplicantListChange.MAX_CHAIN_LENGTH; i++) {
+            uniqueApplicantList.markModified(ALICE);
+        }
+        int chainLength = 0;
+        for (ApplicantListChange change = uniqueApplicantList.getLatestChange(); change != null;
+                change = change.getPrevious()) {
+            chainLength++;
+        }
+        assertTrue(chainLength <= ApplicantListChange.MAX_CHAIN_LENGTH);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -179,85 +331,26 @@ public class UniqueApplicantListTest {
         assertEquals(uniqueApplicantList.asUnmodifiableObservableList().toString(), uniqueApplicantList.toString());
     }
 
-    @Test
-    public void sortPersonsByName_casePairedAlphanumericOrder_success() {
-        Email email1 = new Email("test1@gmail.com");
-        Email email2 = new Email("test2@gmail.com");
-        Email email3 = new Email("test3@gmail.com");
-        Email email4 = new Email("test4@gmail.com");
-        Phone phone1 = new Phone("1234567890");
-        Phone phone2 = new Phone("1234567891");
-        Phone phone3 = new Phone("1234567892");
-        Phone phone4 = new Phone("1234567893");
-        JobPosition jp = new JobPosition("job");
-        Status status = new Status("status");
-        Address address = new Address("happy street");
-        LocalDateTime addedTime = LocalDateTime.now();
-        Set<Tag> tags = new HashSet<>();
-        Applicant p1 = new Applicant(new Name("Aa"), phone1, email1, jp, status, address, addedTime, tags);
-        Applicant p2 = new Applicant(new Name("aaa"), phone2, email2, jp, status, address, addedTime, tags);
-        Applicant p3 = new Applicant(new Name("Bbb"), phone3, email3, jp, status, address, addedTime, tags);
-        Applicant p4 = new Applicant(new Name("bbB"), phone4, email4, jp, status, address, addedTime, tags);
-        uniqueApplicantList.add(p3);
-        uniqueApplicantList.add(p2);
-        uniqueApplicantList.add(p1);
-        uniqueApplicantList.add(p4);
-
-        // Ascending order
-        UniqueApplicantList expectedListInAscendingOrder = new UniqueApplicantList();
-        expectedListInAscendingOrder.add(p1); // Aa
-        expectedListInAscendingOrder.add(p2); // aaa
-        expectedListInAscendingOrder.add(p3); // Bbb
-        expectedListInAscendingOrder.add(p4); // bbB
-        uniqueApplicantList.sortPersonsByAscendingOrder(PREFIX_NAME);
-        assertEquals(expectedListInAscendingOrder, uniqueApplicantList);
-
-        // Descending order
-        UniqueApplicantList expectedListInDescendingOrder = new UniqueApplicantList();
-        expectedListInDescendingOrder.add(p4); // bbB
-        expectedListInDescendingOrder.add(p3); // Bbb
-        expectedListInDescendingOrder.add(p2); // aaa
-        expectedListInDescendingOrder.add(p1); // Aa
-        uniqueApplicantList.sortPersonsByDescendingOrder(PREFIX_NAME);
-        assertEquals(expectedListInDescendingOrder, uniqueApplicantList);
-
-    }
-
-    @Test
-    public void sortPersonsByName_lexicographicalOrder_failure() {
-        Email email1 = new Email("test1@gmail.com");
-        Email email2 = new Email("test2@gmail.com");
-        Email email3 = new Email("test3@gmail.com");
-        Email email4 = new Email("test4@gmail.com");
-        Phone phone1 = new Phone("1234567890");
-        Phone phone2 = new Phone("1234567891");
-        Phone phone3 = new Phone("1234567892");
-        Phone phone4 = new Phone("1234567893");
-        JobPosition jp = new JobPosition("job");
-        Status status = new Status("status");
-        Address address = new Address("happy street");
-        LocalDateTime addedTime = LocalDateTime.now();
-        Set<Tag> tags = new HashSet<>();
-        Applicant p1 = new Applicant(new Name("Aa"), phone1, email1, jp, status, address, addedTime, tags);
-        Applicant p2 = new Applicant(new Name("aaa"), phone2, email2, jp, status, address, addedTime, tags);
-        Applicant p3 = new Applicant(new Name("Bbb"), phone3, email3, jp, status, address, addedTime, tags);
-        Applicant p4 = new Applicant(new Name("bbB"), phone4, email4, jp, status, address, addedTime, tags);
-        uniqueApplicantList.add(p3);
-        uniqueApplicantList.add(p2);
-        uniqueApplicantList.add(p1);
-        uniqueApplicantList.add(p4);
-
-        UniqueApplicantList wronglySortedList = new UniqueApplicantList();
-        // Error: lexicographical only
-        wronglySortedList.add(p1); // Aa
-        wronglySortedList.add(p3); // Bbb
-        wronglySortedList.add(p2); // aaa
-        wronglySortedList.add(p4); // bbB
-
-        uniqueApplicantList.sortPersonsByAscendingOrder(PREFIX_NAME);
-        assertNotEquals(wronglySortedList, uniqueApplicantList);
+    /**
+     * A list that counts how many times its applicants are read.
+     */
+    private static class CountingList extends AbstractList<Applicant> {
+        private final List<Applicant> applicants;
+        private int readCount = 0;
+
+        CountingList(List<Applicant> applicants) {
+            this.applicants = applicants;
+        }
+
+        @Override
+        public Applicant get(int index) {
+            readCount++;
+            return applicants.get(index);
+        }
+
+        @Override
+        public int size() {
+            return applicants.size();
+        }
     }
-
-
-
 }
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookSaverTest {
+
+    private final RecordingAddressBookStorage storage = new RecordingAddressBookStorage();
+    private final List<Runnable> scheduledTasks = new ArrayList<>();
+    private final AddressBookSaver saver = new AddressBookSaver(storage, scheduledTasks::add);
+
+    @Test
+    public void save_whileWriterBusy_onlyLatestSnapshotWritten() {
+        AddressBook first = new AddressBook();
+        AddressBook second = getTypicalAddressBook();
+        AddressBook third = new AddressBook();
+        third.addPerson(ALICE);
+
+        saver.save(first);
+        saver.save(second);
+        saver.save(third);
+        assertEquals(1, scheduledTasks.size());
+
+        scheduledTasks.get(0).run();
+        assertEquals(List.of(third), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void checkForFailure_failedWrite_throwsOnce() throws Exception {
+        storage.failure = new IOException("dummy IO exception");
+        saver.save(new AddressBook());
+        saver.checkForFailure();
+
+        scheduledTasks.get(0).run();
+        assertThrows(IOException.class, "dummy IO exception", saver::checkForFailure);
+        saver.checkForFailure();
+    }
+
+    @Test
+    public void checkForFailure_laterWriteSucceeds_failureCleared() throws Exception {
+        storage.failure = new IOException("dummy IO exception");
+        saver.save(new AddressBook());
+        scheduledTasks.get(0).run();
+
+        storage.failure = null;
+        saver.save(new AddressBook());
+        scheduledTasks.get(1).run();
+        saver.checkForFailure();
+    }
+
+    @Test
+    public void flush_synchronousSaver_writesSnapshot() throws Exception {
+        AddressBookSaver synchronousSaver = AddressBookSaver.createSynchronousSaver(storage);
+        synchronousSaver.save(getTypicalAddressBook());
+        synchronousSaver.flush();
+        assertEquals(List.of(getTypicalAddressBook()), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void close_backgroundSaver_writesAllSnapshots() throws Exception {
+        AddressBookSaver backgroundSaver = AddressBookSaver.createBackgroundSaver(storage);
+        backgroundSaver.save(new AddressBook());
+        backgroundSaver.save(getTypicalAddressBook());
+        backgroundSaver.close();
+        assertEquals(getTypicalAddressBook(), storage.savedAddressBooks.get(storage.savedAddressBooks.size() - 1));
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books it is asked to save.
+     */
+    private static class RecordingAddressBookStorage implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        private IOException failure;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            savedAddressBooks.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.Rating;
+import seedu.address.model.tag.Tag;
+
+public class CsvApplicantFormatTest {
+
+    private static final LocalDateTime IMPORT_TIME = LocalDateTime.of(2024, 3, 15, 10, 15, 30);
+
+    @Test
+    public void toModelType_exportedRow_returnsApplicant() throws Exception {
+        CsvApplicantFormat format = CsvApplicantFormat.fromHeader(CsvApplicantFormat.HEADER.toArray(new String[0]));
+        assertEquals(BENSON, format.toModelType(CsvApplicantFormat.toRow(BENSON), IMPORT_TIME));
+    }
+
+    @Test
+    public void toModelType_columnsReorderedAndOptionalColumnsMissing_returnsApplicant() throws Exception {
+        CsvApplicantFormat format = CsvApplicantFormat.fromHeader(new String[] {
+            " status ", "JOB POSITION", "Address", "Phone", "Email", "Name"});
+        Applicant applicant = format.toModelType(new String[] {
+            "Pending Review", "Frontend SWE", "311, Clementi Ave 2", "98765432", "johnd@example.com", "John Doe"},
+                IMPORT_TIME);
+        assertEquals("John Doe", applicant.getName().fullName);
+        assertEquals(IMPORT_TIME, applicant.getAddedTime());
+        assertEquals(Rating.of(Rating.UNASSIGNED_SCORE), applicant.getRating());
+        assertTrue(applicant.getTags().isEmpty());
+    }
+
+    @Test
+    public void toModelType_ratingAndTags_parsed() throws Exception {
+        CsvApplicantFormat format = CsvApplicantFormat.fromHeader(CsvApplicantFormat.HEADER.toArray(new String[0]));
+        Applicant applicant = format.toModelType(new String[] {"John Doe", "johnd@example.com", "98765432",
+            "311, Clementi Ave 2", "Frontend SWE", "Pending Review", "friends; ;busy", "", "4"}, IMPORT_TIME);
+        assertEquals(Rating.of("4"), applicant.getRating());
+        assertEquals(2, applicant.getTags().size());
+        assertTrue(applicant.getTags().contains(Tag.of("busy")));
+    }
+
+    @Test
+    public void toModelType_invalidAddedTime_throwsIllegalValueException() throws Exception {
+        CsvApplicantFormat format = CsvApplicantFormat.fromHeader(CsvApplicantFormat.HEADER.toArray(new String[0]));
+        String[] row = CsvApplicantFormat.toRow(BENSON);
+        row[7] = "yesterday";
+        assertThrows(IllegalValueException.class, CsvApplicantFormat.INVALID_ADDED_TIME_MESSAGE, () ->
+                format.toModelType(row, IMPORT_TIME));
+    }
+
+    @Test
+    public void toModelType_shortRow_throwsIllegalValueException() throws Exception {
+        CsvApplicantFormat format = CsvApplicantFormat.fromHeader(CsvApplicantFormat.HEADER.toArray(new String[0]));
+        assertThrows(IllegalValueException.class, String.format(CsvApplicantFormat.MISSING_FIELD_MESSAGE_FORMAT,
+                "Phone"), () -> format.toModelType(new String[] {"John Doe", "johnd@example.com"}, IMPORT_TIME));
+    }
+
+    @Test
+    public void fromHeader_missingColumn_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(CsvApplicantFormat.MISSING_COLUMN_MESSAGE_FORMAT,
+                "Email"), () -> CsvApplicantFormat.fromHeader(new String[] {"Name", "Phone"}));
+    }
+}
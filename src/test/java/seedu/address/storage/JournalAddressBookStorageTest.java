@@ -0,0 +1,218 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // First save writes a full snapshot that the json storage can read
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Later saves only append the changes
+        String snapshot = Files.readString(filePath);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Edit, including a change of email, keeps the position of the applicant
+        Applicant editedBenson = new PersonBuilder(BENSON).withEmail("benson@example.com").withRating("4").build();
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Reordering is recorded
+        List<Applicant> reordered = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reordered);
+        original.setPersons(reordered);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Profile picture changes happen in place and are still picked up once they are recorded
+        Applicant first = original.getPersonList().get(0);
+        first.setProfilePicturePath("images/profile.png");
+        original.markModified(first);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Saving without changes does not touch the journal
+        long journalSize = Files.size(journalPath);
+        storage.saveAddressBook(original);
+        assertEquals(journalSize, Files.size(journalPath));
+
+        // Changes in place that are not known in detail are saved as a full snapshot
+        original.getPersonList().get(1).setProfilePicturePath("images/other.png");
+        original.markModified();
+        original.removePerson(first);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotOfReadAddressBook_onlyChangesAppended() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String snapshot = Files.readString(filePath);
+
+        // as in the app, the model copies the address book read, and the saver is handed snapshots of the copy
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook model = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(new AddressBookSnapshot(model));
+        assertFalse(Files.exists(journalPath));
+
+        model.addPerson(HOON);
+        Applicant editedBenson = new PersonBuilder(BENSON).withEmail("benson@example.com").build();
+        model.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(new AddressBookSnapshot(model));
+        model.removePerson(ALICE);
+        storage.saveAddressBook(new AddressBookSnapshot(model));
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(model, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_repeatedEmailChanges_positionsKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        Applicant benson = BENSON;
+        for (int i = 0; i < 5; i++) {
+            Applicant edited = new PersonBuilder(benson).withEmail("benson" + i + "@example.com").build();
+            original.setPerson(benson, edited);
+            storage.saveAddressBook(original);
+            benson = edited;
+        }
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // an email given up by one applicant can be taken by another
+        original.addPerson(new PersonBuilder(ALICE).withEmail(BENSON.getEmail().value).withPhone("90000000").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        int threshold = JournalAddressBookStorage.getCompactionThreshold(original.getPersonList().size());
+        for (int i = 0; i <= threshold; i++) {
+            Applicant edited = new PersonBuilder(IDA).withRating(String.valueOf(i % 2 + 1)).build();
+            if (original.hasPerson(IDA)) {
+                original.setPerson(original.getPersonList().get(original.getPersonList().size() - 1), edited);
+            } else {
+                original.addPerson(edited);
+            }
+            storage.saveAddressBook(original);
+        }
+
+        assertTrue(!Files.exists(journalPath) || Files.readAllLines(journalPath).size() < threshold);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(journalPath, "{\"operation\":\"put\",\"appl".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.write(journalPath, "not a record\n{\"operation\":\"remove\",\"email\":\"a@b.com\"}\n"
+                .getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        ReadOnlyAddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath).saveAddressBook(null));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookStreamTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeAndRead_typicalAddressBook_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStream.writeAddressBook(original, filePath);
+        assertEquals(original, JsonAddressBookStream.readAddressBook(filePath));
+    }
+
+    @Test
+    public void writeAddressBook_compactOutput() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStream.writeAddressBook(getTypicalAddressBook(), filePath);
+        String content = Files.readString(filePath, StandardCharsets.UTF_8);
+        assertTrue(content.startsWith("{\"persons\":[{"));
+        assertFalse(content.contains("\n"));
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        JsonAddressBookStream.writeAddressBook(original, filePath);
+        String content = Files.readString(filePath, StandardCharsets.UTF_8);
+        Files.writeString(filePath, "{\"version\":{\"major\":1},\"tags\":[1,2]," + content.substring(1));
+        assertEquals(original, JsonAddressBookStream.readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookStream.readAddressBook(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        JsonAddressBookStream.writeAddressBook(original, filePath);
+        String content = Files.readString(filePath, StandardCharsets.UTF_8);
+        String person = content.substring(content.indexOf('[') + 1, content.lastIndexOf(']'));
+        Files.writeString(filePath, "{\"persons\":[" + person + "," + person + "]}");
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookStream.readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_notAnObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, "[]");
+        assertThrows(IOException.class, () -> JsonAddressBookStream.readAddressBook(filePath));
+
+        Files.writeString(filePath, "");
+        assertThrows(IOException.class, () -> JsonAddressBookStream.readAddressBook(filePath));
+    }
+}
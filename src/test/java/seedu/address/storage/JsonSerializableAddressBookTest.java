@@ -5,12 +5,17 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.Name;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +49,49 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_orderPreserved() throws Exception {
+        List<Applicant> applicants = createApplicants(3 * JsonSerializableAddressBook.PARALLEL_CONVERSION_THRESHOLD);
+        AddressBook addressBook = new JsonSerializableAddressBook(toAdapted(applicants)).toModelType();
+        assertEquals(applicants, addressBook.getPersonList());
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithInvalidValues_throwsFirstFailure() {
+        List<Applicant> applicants = createApplicants(3 * JsonSerializableAddressBook.PARALLEL_CONVERSION_THRESHOLD);
+        List<JsonAdaptedApplicant> adapted = toAdapted(applicants);
+        adapted.set(2000, toAdapted(applicants.get(2000), "R@chel", applicants.get(2000).getEmail().value));
+        adapted.set(2500, toAdapted(applicants.get(2500), applicants.get(2500).getName().fullName, "example.com"));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                new JsonSerializableAddressBook(adapted).toModelType());
+
+        // a duplicate before the invalid applicant is reported first
+        adapted.set(1500, new JsonAdaptedApplicant(applicants.get(0)));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonSerializableAddressBook(adapted).toModelType());
+    }
+
+    private static List<Applicant> createApplicants(int count) {
+        List<Applicant> applicants = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            applicants.add(new PersonBuilder().withPhone(String.valueOf(80000000 + i))
+                    .withEmail("applicant" + i + "@example.com").build());
+        }
+        return applicants;
+    }
+
+    private static List<JsonAdaptedApplicant> toAdapted(List<Applicant> applicants) {
+        List<JsonAdaptedApplicant> adapted = new ArrayList<>();
+        for (Applicant applicant : applicants) {
+            adapted.add(new JsonAdaptedApplicant(applicant));
+        }
+        return adapted;
+    }
+
+    private static JsonAdaptedApplicant toAdapted(Applicant applicant, String name, String email) {
+        return new JsonAdaptedApplicant(name, applicant.getPhone().value, email,
+                applicant.getJobPosition().jobPosition, applicant.getStatus().value, applicant.getAddress().value,
+                applicant.getAddedTime(), new ArrayList<>(), applicant.getRating().value, null);
+    }
+
 }
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.testutil.PersonBuilder;
+
+public class MappedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("addressBook.dat"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("missing.dat"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.dat");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_unusualValues_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.dat");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withPhone("000123").withEmail("zoe@example.com")
+                .withAddedTime(LocalDateTime.of(1969, 7, 20, 20, 17, 40, 123456789))
+                .withTags("best friends", "exGoogle").build());
+        original.addPerson(new PersonBuilder().withPhone("12345678901234567890123")
+                .withEmail("long@example.com").withTags().build());
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_applicantsCreatedWhenRead() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.dat");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+        assertTrue(addressBook.isLazilyMaterialized());
+        List<Applicant> applicants = addressBook.getPersonList();
+        assertEquals(getTypicalAddressBook().getPersonList().size(), applicants.size());
+        assertEquals(getTypicalAddressBook().getPersonList().get(2), applicants.get(2));
+        // recently read applicants are cached
+        assertSame(applicants.get(2), applicants.get(2));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedCopyOfMappedFile_fileNotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.dat");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Object fileKey = Files.readAttributes(filePath, BasicFileAttributes.class).fileKey();
+
+        AddressBook copy = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(new AddressBookSnapshot(copy));
+        assertTrue(copy.isLazilyMaterialized());
+        assertEquals(fileKey, Files.readAttributes(filePath, BasicFileAttributes.class).fileKey());
+
+        // another file is written, still without copying the applicants
+        Path otherFilePath = testFolder.resolve("other.dat");
+        storage.saveAddressBook(new AddressBookSnapshot(copy), otherFilePath);
+        assertTrue(copy.isLazilyMaterialized());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(otherFilePath).get()));
+
+        copy.addPerson(HOON);
+        storage.saveAddressBook(new AddressBookSnapshot(copy));
+        assertEquals(copy, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_notMappedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.dat");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.dat");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 10));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("addressBook.dat"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}